@@ -0,0 +1,132 @@
+package me.teamone.gogame.client;
+
+import javafx.application.Platform;
+import javafx.scene.layout.GridPane;
+import me.teamone.gogame.core.Game;
+import me.teamone.gogame.core.MovePipeline;
+import me.teamone.gogame.core.events.GameEvent;
+import me.teamone.gogame.core.exceptions.NoStoneException;
+import me.teamone.gogame.core.helpers.SpaceState;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.Position;
+import me.teamone.gogame.core.model.PositionListener;
+
+/**
+ * Class to draw the game board.
+ * Is a grid of BoardSpaces that observes the game's {@link Position}.
+ */
+public class Board extends GridPane implements PositionListener {
+
+    private BoardSpace[][] board;
+    private final int xSize;
+    private final int ySize;
+
+    /*
+    Added by Taran
+    Property to hold the Game the board is apart of
+     */
+    private final Game game;
+
+    // plays clicks and computer moves
+    private final MovePipeline moves;
+
+    /**
+     * Constructor; creates a board view for a game.
+     * @param game The game to draw.
+     * @param moves The pipeline clicked points are played through.
+     */
+    public Board(Game game, MovePipeline moves) {
+        this.game = game;
+        this.moves = moves;
+        this.xSize = game.getPosition().getxSize();
+        this.ySize = game.getPosition().getySize();
+
+        initBoard();
+        game.getPosition().addListener(this);
+    }
+
+    /**
+     * Generate the grid based on defined x and y size
+     */
+    private void initBoard() {
+        this.board = new BoardSpace[this.xSize][this.ySize];
+        //one wood background behind the whole grid, shared by every board
+        this.setBackground(Textures.getWoodBackground());
+        for (int i = 0; i < this.xSize; i++) {
+            for (int j = 0; j < this.ySize; j++) {
+                int[] space = {i, j};
+                BoardSpace boardSpace = new BoardSpace(space);
+                this.board[i][j] = boardSpace;
+
+                //Added by Taran
+                //Populates the board's GridPane with BoardSpace StackPanes
+                this.add(boardSpace, i, j);
+
+                boardSpace.setOnMouseClicked(e -> moves.click(boardSpace.getGridSpace()));
+            }
+        }
+    }
+
+    /**
+     * Redraw a space when its point changes in the position. Moves are made on the game thread, so
+     * what the point holds is read here, on the thread writing it, and only that is passed to the
+     * JavaFX application thread to draw. A stone that cannot be read is reported to the game's
+     * event log and not drawn.
+     * @param x The x position of the point.
+     * @param y The y position of the point.
+     */
+    @Override
+    public void pointChanged(int x, int y) {
+        SpaceState state = game.getPosition().getState(x, y);
+        Team owner;
+        try {
+            owner = readOwner(x, y, state);
+        } catch (NoStoneException exc) {
+            game.getEvents().publish(GameEvent.drawFailed(game.getState().getDepth(), x, y, exc.getMessage()));
+            return;
+        }
+        Platform.runLater(() -> drawSpace(x, y, state, owner));
+    }
+
+    /**
+     * Read the team a point belongs to: the capturer of a captured point, the team of a stone,
+     * null for an open point.
+     */
+    private Team readOwner(int x, int y, SpaceState state) throws NoStoneException {
+        Position position = game.getPosition();
+        if (state == SpaceState.CAPTURED) {
+            return position.getCaptureOwner(x, y);
+        }
+        return state == SpaceState.FILLED ? position.getStoneTeam(x, y) : null;
+    }
+
+    /**
+     * Draw what a point holds on its space, on the JavaFX application thread.
+     */
+    private void drawSpace(int x, int y, SpaceState state, Team owner) {
+        BoardSpace space = this.board[x][y];
+        if (state == SpaceState.CAPTURED) {
+            space.captureSpace(owner);
+        } else if (state == SpaceState.FILLED && !space.hasStone()) {
+            space.placeStone(owner);
+        }
+    }
+
+    /**
+     * Get a specific space on the board based on given x and y pos.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The space at the requested x, y pos.
+     */
+    public BoardSpace getSpecificSpace(int x, int y) {
+        return this.board[x][y];
+    }
+
+    public int getxSize() {
+        return this.xSize;
+    }
+
+    public int getySize() {
+        return ySize;
+    }
+}
@@ -0,0 +1,98 @@
+package me.teamone.gogame.client;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import me.teamone.gogame.core.helpers.Team;
+
+import java.util.Objects;
+
+/**
+ * Class for drawing a space on the board.
+ * Holds no game state of its own, the {@link Board} view updates it from the game position.
+ */
+public class BoardSpace extends StackPane {
+
+    /**
+     * The drawn stone, null if the space is empty.
+     */
+    private Stone stone = null;
+    /**
+     * The capture marker, null if the space is not captured.
+     */
+    private Circle captureMarker = null;
+    /**
+     * The spaces position on the grid. Used when board is generated in Board class.
+     * Stored as [x, y]
+     */
+    private final int[] gridSpace;
+
+    /**
+     * Constructor.
+     * @param gridSpace The position on the grid.
+     */
+    public BoardSpace(int[] gridSpace) {
+        this.gridSpace = gridSpace;
+
+        // the grid lines image, decoded once and shared by every space
+        ImageView imgView = new ImageView(Textures.get(Textures.BOARD_SPACE, 30, 30));
+        this.getChildren().addAll(imgView);
+    }
+
+    /**
+     * Draws a stone on the space.
+     * @param team The team of the stone to draw.
+     */
+    public void placeStone(Team team) {
+        this.stone = new Stone(team);
+        this.getChildren().add(stone);
+    }
+
+    /**
+     * Draw the space as captured.
+     * @param team The team that captured the space.
+     */
+    public void captureSpace(Team team) {
+        //one marker per space, a point captured again keeps the marker it has
+        if (captureMarker == null) {
+            captureMarker = new Circle(5);
+            captureMarker.setFill(Color.GREEN);
+            this.getChildren().add(captureMarker);
+        }
+
+        if (hasStone()) {
+            removeStone();
+        }
+    }
+
+    public boolean hasStone() {
+        return !Objects.isNull(stone);
+    }
+
+    /**
+     * Get the grid space
+     * @return The [x, y] array of the grid position.
+     */
+    public int[] getGridSpace() {
+        return gridSpace;
+    }
+
+    public int getX() {
+        return gridSpace[0];
+    }
+
+    public int getY() {
+        return gridSpace[1];
+    }
+
+    public void removeStone() {
+        this.getChildren().remove(stone);
+        this.stone = null;
+    }
+
+    @Override
+    public String toString() {
+        return "(X: " + this.getX() + ", Y:" + this.getY() + ")";
+    }
+}
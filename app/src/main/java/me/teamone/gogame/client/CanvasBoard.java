@@ -0,0 +1,180 @@
+package me.teamone.gogame.client;
+
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
+import me.teamone.gogame.core.Game;
+import me.teamone.gogame.core.MovePipeline;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.BitBoard;
+import me.teamone.gogame.core.model.Position;
+import me.teamone.gogame.core.model.PositionListener;
+
+/**
+ * Board view drawn on a single canvas, the alternative to the node per space {@link Board}. <br>
+ * Every cell is drawn from the game's {@link Position}: the wood, the grid lines, then a stone or
+ * a capture marker. The whole board is drawn once, after that a changed point only marks its cell
+ * dirty, and the dirty cells are redrawn together once the move is done. The scene graph stays
+ * one node whatever the board size and game length, and a move costs the cells it changed. <br>
+ * The position is written on the game thread, so the view keeps its own copy of what each cell
+ * holds, recorded under the lock as points change, and the application thread draws from that.
+ */
+public class CanvasBoard extends Canvas implements PositionListener {
+
+    /**
+     * The width and height of a cell, in pixels.
+     */
+    public static final int CELL = 30;
+    private static final double STONE_RADIUS = 10;
+    private static final double CAPTURE_RADIUS = 5;
+
+    // what a cell holds, as copied from the position
+    private static final byte OPEN = 0;
+    private static final byte BLACK = 1;
+    private static final byte WHITE = 2;
+    private static final byte CAPTURED = 3;
+
+    private final Position position;
+    private final BitBoard bitBoard;
+    private final int size;
+    private final GraphicsContext graphics;
+    private final ImagePattern wood;
+
+    /**
+     * What each cell holds by bit index, written under the lock as points change.
+     */
+    private final byte[] cells;
+    /**
+     * Cells waiting to be redrawn, as a plane of bit indexes and a list.
+     */
+    private final long[] dirty;
+    private final int[] dirtyCells;
+    private int dirtyCount = 0;
+    private boolean repaintQueued = false;
+    // the dirty cells taken by the repaint in progress, and what they held when taken
+    private final int[] painting;
+    private final byte[] paintingCells;
+
+    /**
+     * Constructor; creates a board view for a game, playing the points clicked.
+     * @param game The game to draw.
+     * @param moves The pipeline clicked points are played through.
+     */
+    public CanvasBoard(Game game, MovePipeline moves) {
+        this(game.getPosition());
+        setOnMouseClicked(e -> {
+            int x = (int) (e.getX() / CELL);
+            int y = (int) (e.getY() / CELL);
+            if (x >= 0 && y >= 0 && x < size && y < size) {
+                moves.click(new int[]{x, y});
+            }
+        });
+    }
+
+    /**
+     * Constructor; creates a view of a position that ignores clicks, for replays.
+     * @param position The position to draw.
+     */
+    public CanvasBoard(Position position) {
+        super(position.getxSize() * CELL, position.getySize() * CELL);
+        this.position = position;
+        this.bitBoard = position.getBitBoard();
+        this.size = bitBoard.getSize();
+        this.graphics = getGraphicsContext2D();
+        // anchored at the canvas origin, so a cell's wood matches its neighbours wherever it is drawn
+        this.wood = new ImagePattern(Textures.get(Textures.WOOD, 32, 32), 0, 0, 32, 32, false);
+        this.dirty = bitBoard.newPlane();
+        this.dirtyCells = new int[bitBoard.getBitCount()];
+        this.painting = new int[bitBoard.getBitCount()];
+        this.paintingCells = new byte[bitBoard.getBitCount()];
+        this.cells = new byte[bitBoard.getBitCount()];
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int index = bitBoard.index(x, y);
+                cells[index] = readCell(index);
+                drawCell(x, y, cells[index]);
+            }
+        }
+        position.addListener(this);
+    }
+
+    /**
+     * Record what a changed point now holds and mark its cell dirty, and queue one repaint for every
+     * change in the move. Called on the game thread while a move is applied.
+     * @param x The x position of the point.
+     * @param y The y position of the point.
+     */
+    @Override
+    public synchronized void pointChanged(int x, int y) {
+        int index = bitBoard.index(x, y);
+        cells[index] = readCell(index);
+        if (!BitBoard.get(dirty, index)) {
+            BitBoard.set(dirty, index);
+            dirtyCells[dirtyCount++] = index;
+        }
+        if (!repaintQueued) {
+            repaintQueued = true;
+            Platform.runLater(this::repaintDirty);
+        }
+    }
+
+    /**
+     * Redraw the dirty cells, each once however often it changed. The cells and what they hold are
+     * taken under the lock and drawn outside it, so the game thread is never held up by drawing and
+     * the position is never read here. A cell that changes again while it is drawn is marked dirty
+     * and drawn again.
+     */
+    private void repaintDirty() {
+        int count;
+        synchronized (this) {
+            count = dirtyCount;
+            for (int i = 0; i < count; i++) {
+                painting[i] = dirtyCells[i];
+                paintingCells[i] = cells[dirtyCells[i]];
+                BitBoard.clear(dirty, dirtyCells[i]);
+            }
+            dirtyCount = 0;
+            repaintQueued = false;
+        }
+        for (int i = 0; i < count; i++) {
+            drawCell(bitBoard.x(painting[i]), bitBoard.y(painting[i]), paintingCells[i]);
+        }
+    }
+
+    /**
+     * Read what a point holds from the position, on the thread writing it.
+     */
+    private byte readCell(int index) {
+        Team stone = position.stoneAt(index);
+        if (stone != null) {
+            return stone == Team.BLACK ? BLACK : WHITE;
+        }
+        return position.captureOwnerAt(index) != null ? CAPTURED : OPEN;
+    }
+
+    /**
+     * Draw one cell, covering everything drawn there before.
+     */
+    private void drawCell(int x, int y, byte cell) {
+        double left = x * CELL;
+        double top = y * CELL;
+        graphics.setFill(wood);
+        graphics.fillRect(left, top, CELL, CELL);
+        graphics.drawImage(Textures.get(Textures.BOARD_SPACE, CELL, CELL), left, top);
+
+        double centreX = left + CELL / 2.0;
+        double centreY = top + CELL / 2.0;
+        if (cell == BLACK || cell == WHITE) {
+            graphics.setFill(Stone.getTeamColor(cell == BLACK ? Team.BLACK : Team.WHITE));
+            graphics.fillOval(centreX - STONE_RADIUS, centreY - STONE_RADIUS, 2 * STONE_RADIUS, 2 * STONE_RADIUS);
+            graphics.setStroke(Color.BLACK);
+            graphics.strokeOval(centreX - STONE_RADIUS, centreY - STONE_RADIUS, 2 * STONE_RADIUS, 2 * STONE_RADIUS);
+        } else if (cell == CAPTURED) {
+            graphics.setFill(Color.GREEN);
+            graphics.fillOval(centreX - CAPTURE_RADIUS, centreY - CAPTURE_RADIUS, 2 * CAPTURE_RADIUS, 2 * CAPTURE_RADIUS);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package me.teamone.gogame.client;
 
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
@@ -9,8 +10,16 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
 import me.teamone.gogame.core.Game;
+import me.teamone.gogame.core.sgf.GameRecord;
+import me.teamone.gogame.core.sgf.SgfWriter;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashMap;
 
 /*
@@ -22,8 +31,12 @@ public class FinalScorePage extends VBox {
     //HashMap storing game results
     private final HashMap<String, String> gameResults;
 
+    //the finished game, kept so it can be saved
+    private final Game game;
+
     public FinalScorePage(Game game) {
         //game object
+        this.game = game;
 
         //stores the game results in HashMap
         gameResults = game.getGameResults();
@@ -57,7 +70,8 @@ public class FinalScorePage extends VBox {
         hBoxScores.setAlignment(Pos.CENTER);
 
         Text blackPlayerScore = new Text("Black Player Score: " + gameResults.get("bps"));
-        Text whitePlayerScore = new Text("White Player Score: " + gameResults.get("wps"));
+        Text whitePlayerScore = new Text("White Player Score: " + gameResults.get("wps")
+                + (game.getScore().getKomi() != 0 ? " + " + gameResults.get("komi") + " komi" : ""));
 
         hBoxScores.getChildren().addAll(blackPlayerScore, whitePlayerScore);
 
@@ -76,8 +90,46 @@ public class FinalScorePage extends VBox {
             whitePlayerScore.setFill(Color.WHITE);
         }
 
+        //Save button writes the game record to an SGF file
+        Button btnSave = new Button("Save Game");
+        btnSave.setOnAction(e -> saveGame(resultText));
+
+        //Replay button steps through the finished game
+        Button btnReplay = new Button("Replay Game");
+        btnReplay.setOnAction(e -> replayGame());
+
         //add all nodes to FinalScorePage
-        getChildren().addAll(resultText, hBoxScores, btnQuit);
+        getChildren().addAll(resultText, hBoxScores, btnReplay, btnSave, btnQuit);
+
+    }
 
+    /**
+     * Show the replay page for the game.
+     */
+    private void replayGame() {
+        Stage stage = (Stage) getScene().getWindow();
+        stage.setScene(new Scene(new ReplayPage(game)));
+        stage.centerOnScreen();
+        stage.show();
+    }
+
+    /**
+     * Ask where to save the game and write it there as an SGF file.
+     * @param resultText The winner text, used to show if saving failed.
+     */
+    private void saveGame(Text resultText) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Save Game");
+        chooser.setInitialFileName("game.sgf");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("SGF game records", "*.sgf"));
+        File file = chooser.showSaveDialog(getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        try (SgfWriter writer = new SgfWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            writer.write(GameRecord.of(game));
+        } catch (IOException ex) {
+            resultText.setText("COULD NOT SAVE: " + ex.getMessage());
+        }
     }
 }
@@ -1,20 +1,28 @@
 package me.teamone.gogame.client;
 
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import me.teamone.gogame.core.Game;
+import me.teamone.gogame.core.MovePipeline;
+import me.teamone.gogame.core.events.EventLevel;
+import me.teamone.gogame.core.gameobjects.AIPlayer;
 import me.teamone.gogame.core.gameobjects.Player;
 import me.teamone.gogame.core.helpers.Team;
 
+import java.util.Arrays;
+import java.util.Locale;
+
 /**
  * Class to display the game.
  * Includes the board in the center, Team Black stats on the left,
@@ -23,20 +31,36 @@ import me.teamone.gogame.core.helpers.Team;
  */
 public class GamePage extends BorderPane {
     /*Properties*/
-    //stores Board object
+    //stores Game object
     private final Game game;
 
+    //plays moves on the game thread, publishing the results back to this page
+    private final MovePipeline moves;
+
     //stores Quit Button
     private final Button btnQuit;
 
     //stores Surrender button
     private final Button btnSurrender;
 
+    //stores Pass button
+    private final Button btnPass;
+
     /*Constructors*/
     //Empty Constructor
     public GamePage() {
+        this(new Player("White", Team.WHITE));
+    }
+
+    /**
+     * Constructor, starts a game against a given white player.
+     * @param whitePlayer The white player, an AIPlayer to play against the computer.
+     */
+    public GamePage(Player whitePlayer) {
         //create new generic board
-        game = new Game(new Player("Black", Team.BLACK), new Player("White", Team.WHITE), 0, 19);
+        game = new Game(new Player("Black", Team.BLACK), whitePlayer, 0, 19);
+        moves = new MovePipeline(game, Platform::runLater);
+        logEvents();
 
         //instantiate Quit button
         btnQuit = new Button("Quit");
@@ -48,6 +72,11 @@ public class GamePage extends BorderPane {
         //runs the endGame method when the user clicks the surrender button
         btnSurrender.setOnAction(e -> endGame());
 
+        //instantiate Pass button
+        btnPass = new Button("Pass");
+        //queues a pass for the current player when the user clicks the pass button
+        btnPass.setOnAction(e -> moves.pass());
+
         //Background image for other vboxes it was ugly, disabled for now
         //String IMAGE_URL = "/images/stone.jpg";
         // BackgroundImage myBI = new BackgroundImage(new Image(Objects.requireNonNull(getClass().getResourceAsStream(IMAGE_URL)), 32, 32, false, false), BackgroundRepeat.REPEAT, BackgroundRepeat.REPEAT, BackgroundPosition.DEFAULT,BackgroundSize.DEFAULT);
@@ -67,8 +96,14 @@ public class GamePage extends BorderPane {
         //HBox object to display buttons
         HBox hBoxButtons = createButtonBox();
 
-        //place the board in the center
-        this.setCenter(game.getBoard());
+        //place the board in the center, drawn on one canvas unless -Dgogame.renderer=nodes asks for a node per space
+        if ("nodes".equals(System.getProperty("gogame.renderer"))) {
+            this.setCenter(new Board(game, moves));
+        } else {
+            this.setCenter(new CanvasBoard(game, moves));
+        }
+        //the board is listening, a computer player moving first can start
+        moves.start();
         //place the button box on the top
         this.setTop(hBoxButtons);
         //place the output TextField on the bottom
@@ -81,13 +116,13 @@ public class GamePage extends BorderPane {
     }
 
     /**
-     Creates an HBox with the two buttons
-     @return HBox containing two buttons
+     Creates an HBox with the three buttons
+     @return HBox containing three buttons
      */
     private HBox createButtonBox() {
         HBox hBox = new HBox();
         hBox.setSpacing(20);
-        hBox.getChildren().addAll(btnQuit, btnSurrender);
+        hBox.getChildren().addAll(btnQuit, btnPass, btnSurrender);
         //align the buttons at the bottom center
         hBox.setAlignment(Pos.BOTTOM_CENTER);
         //set spacing for buttons
@@ -112,8 +147,22 @@ public class GamePage extends BorderPane {
         HBox hBoxTurn = new HBox(txtTurn, new Text("'s turn"));
         hBoxTurn.setAlignment(Pos.CENTER);
 
+        //bar filled with black's share of the estimated points, so who is ahead shows at a glance
+        ProgressBar barEstimate = new ProgressBar();
+        barEstimate.setPrefWidth(300);
+        barEstimate.setStyle("-fx-accent: black; -fx-control-inner-background: white;");
+        barEstimate.progressProperty().bind(game.getBlackShareProperty());
+
+        //displays the estimated result next to the bar
+        Text txtEstimate = new Text();
+        txtEstimate.textProperty().bind(game.getEstimateStringProperty());
+
+        HBox hBoxEstimate = new HBox(new Text("Estimate: "), barEstimate, txtEstimate);
+        hBoxEstimate.setAlignment(Pos.CENTER);
+        hBoxEstimate.setSpacing(10);
+
         //adds text to VBox
-        vBoxOutput.getChildren().addAll(hBoxTurn);
+        vBoxOutput.getChildren().addAll(hBoxTurn, hBoxEstimate);
 
         //formats VBox
         vBoxOutput.setAlignment(Pos.CENTER);
@@ -171,6 +220,7 @@ public class GamePage extends BorderPane {
         //displays a dialog box asking the user if they're sure they want to quit
         alert.showAndWait().ifPresent(result -> {
             if (result == ButtonType.OK) {
+                stopComputerPlayers();
                 //if the user clicks yes, quits the game to the title page
                 TitlePage titlePage = new TitlePage();
                 Scene scene = new Scene(titlePage);
@@ -199,6 +249,7 @@ public class GamePage extends BorderPane {
         //displays a dialog box asking the user if they're sure they want to quit
         alert.showAndWait().ifPresent(result -> {
             if (result == ButtonType.OK) {
+                stopComputerPlayers();
                 //if the user clicks yes, quits the game to the title page
                 FinalScorePage finalScorePage = new FinalScorePage(game);
                 Scene scene = new Scene(finalScorePage);
@@ -211,4 +262,37 @@ public class GamePage extends BorderPane {
             }
         });
     }
+
+    /**
+     * Print the game's events to the console. Only warnings are printed, to standard error, unless
+     * -Dgogame.log=debug or info asks for more on standard out. A level that is not known is
+     * reported and warnings are printed instead.
+     */
+    private void logEvents() {
+        String level = System.getProperty("gogame.log");
+        if (level == null) {
+            game.getEvents().addListener(EventLevel.WARN, System.err::println);
+            return;
+        }
+        try {
+            game.getEvents().addListener(EventLevel.valueOf(level.toUpperCase(Locale.ROOT)), System.out::println);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown gogame.log level " + level + ", expected one of "
+                    + Arrays.toString(EventLevel.values()) + ", logging warnings");
+            game.getEvents().addListener(EventLevel.WARN, System.err::println);
+        }
+    }
+
+    /**
+     * Stop the game thread, waiting for a move being applied, and the search threads of any
+     * computer players in the game.
+     */
+    private void stopComputerPlayers() {
+        moves.shutdown();
+        for (Player player : new Player[]{game.getBlackPlayer(), game.getWhitePlayer()}) {
+            if (player instanceof AIPlayer) {
+                ((AIPlayer) player).shutdown();
+            }
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package me.teamone.gogame.client;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+import me.teamone.gogame.core.Game;
+import me.teamone.gogame.core.model.BitBoard;
+import me.teamone.gogame.core.model.GameState;
+import me.teamone.gogame.core.model.Position;
+import me.teamone.gogame.core.model.Timeline;
+
+/**
+ * Page to step through a finished game.
+ * A slider picks the move, the buttons step one move, and the board shows the game as it stood.
+ * Seeking goes through a {@link Timeline}, so dragging the slider across a long game stays smooth.
+ */
+public class ReplayPage extends BorderPane {
+
+    //the finished game, for going back to its score page
+    private final Game game;
+
+    //every position of the game
+    private final Timeline timeline;
+
+    //the position drawn by the board, set to the move the slider is on
+    private final Position display;
+
+    //picks the move to show
+    private final Slider slider;
+
+    //shows the move number and what was played
+    private final Text txtMove = new Text();
+
+    /**
+     * Constructor, shows a game from its first move.
+     * @param game The game to replay.
+     */
+    public ReplayPage(Game game) {
+        this.game = game;
+        this.timeline = new Timeline(game.getState(), Timeline.DEFAULT_INTERVAL);
+        this.display = new Position(game.getPosition().getxSize(), game.getPosition().getySize());
+
+        //move 0 before the board is built, so it is drawn with the setup stones already on
+        timeline.seek(0, display);
+        this.setCenter(new CanvasBoard(display));
+
+        slider = new Slider(0, timeline.getLength(), 0);
+        slider.setBlockIncrement(1);
+        slider.setMajorTickUnit(10);
+        slider.setMinorTickCount(9);
+        slider.setSnapToTicks(true);
+        slider.setPrefWidth(400);
+        slider.valueProperty().addListener((observable, oldValue, newValue) -> showMove((int) Math.round(newValue.doubleValue())));
+
+        Button btnPrevious = new Button("<");
+        btnPrevious.setOnAction(e -> slider.setValue(Math.max(0, slider.getValue() - 1)));
+        Button btnNext = new Button(">");
+        btnNext.setOnAction(e -> slider.setValue(Math.min(timeline.getLength(), slider.getValue() + 1)));
+
+        Button btnBack = new Button("Back");
+        btnBack.setOnAction(e -> back());
+
+        HBox hBoxControls = new HBox(btnPrevious, slider, btnNext, txtMove, btnBack);
+        hBoxControls.setAlignment(Pos.CENTER);
+        hBoxControls.setSpacing(10);
+        hBoxControls.setPadding(new Insets(10));
+        this.setBottom(hBoxControls);
+
+        showMove(0);
+    }
+
+    /**
+     * Show the game after a number of moves.
+     * @param ply The number of moves played, passes included.
+     */
+    private void showMove(int ply) {
+        timeline.seek(ply, display);
+        if (ply == 0) {
+            txtMove.setText("Start of " + timeline.getLength());
+            return;
+        }
+        int move = timeline.getMove(ply - 1);
+        BitBoard bitBoard = display.getBitBoard();
+        String team = (ply - 1) % 2 == 0 ? "Black" : "White";
+        txtMove.setText("Move " + ply + " of " + timeline.getLength() + ": " + team + " "
+                + (move == GameState.PASS ? "passes" : "(" + bitBoard.x(move) + ", " + bitBoard.y(move) + ")"));
+    }
+
+    /**
+     * Go back to the game's score page.
+     */
+    private void back() {
+        Stage stage = (Stage) getScene().getWindow();
+        stage.setScene(new Scene(new FinalScorePage(game)));
+        stage.centerOnScreen();
+        stage.show();
+    }
+}
@@ -0,0 +1,42 @@
+package me.teamone.gogame.client;
+
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import me.teamone.gogame.core.helpers.Team;
+
+/**
+ * Stone object.
+ * Used to draw a stone on a board space.
+ */
+public class Stone extends Circle {
+
+    private final Team team;
+
+    public Stone(Team team) {
+        this.team = team;
+
+        this.setRadius(10);
+        this.setStroke(Color.BLACK);
+        this.setFill(getTeamColor(team));
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    /**
+     * Get the color used to draw a team.
+     * @param team The team.
+     * @return The color of the team.
+     */
+    public static Color getTeamColor(Team team) {
+        switch (team) {
+            case WHITE:
+                return Color.WHITE;
+            case BLACK:
+                return Color.BLACK;
+            default:
+                return Color.BEIGE;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package me.teamone.gogame.client;
+
+import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of the images the views draw with. <br>
+ * Each image is decoded the first time it is asked for, at the size asked for, and every later
+ * view shares that one copy. Images are immutable once loaded, so sharing them between nodes is
+ * safe, and a 19x19 board decodes its textures twice instead of twice per space.
+ */
+public final class Textures {
+
+    public static final String WOOD = "/images/wood_texture.jpg";
+    public static final String BOARD_SPACE = "/images/boardspace.png";
+    public static final String TITLE = "/images/GOTitleImage.png";
+
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+    private static volatile Background woodBackground;
+
+    private Textures() {
+    }
+
+    /**
+     * Get an image, decoding it the first time.
+     * @param url The resource path of the image.
+     * @param width The width to scale it to.
+     * @param height The height to scale it to.
+     * @return The shared image.
+     */
+    public static Image get(String url, double width, double height) {
+        return images.computeIfAbsent(url + "@" + width + "x" + height,
+                key -> new Image(Objects.requireNonNull(Textures.class.getResourceAsStream(url), url),
+                        width, height, false, false));
+    }
+
+    /**
+     * Get the wood background the board is drawn on, tiled from a 32 pixel texture.
+     * @return The shared background.
+     */
+    public static Background getWoodBackground() {
+        Background background = woodBackground;
+        if (background == null) {
+            background = new Background(new BackgroundImage(get(WOOD, 32, 32), BackgroundRepeat.REPEAT,
+                    BackgroundRepeat.REPEAT, BackgroundPosition.DEFAULT, BackgroundSize.DEFAULT));
+            woodBackground = background;
+        }
+        return background;
+    }
+}
@@ -5,23 +5,21 @@ import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.HBox;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.control.Button;
 import javafx.stage.Stage;
-
-import java.util.Objects;
+import me.teamone.gogame.core.gameobjects.AIPlayer;
+import me.teamone.gogame.core.helpers.Team;
 
 /**Class to create a title page with the game title, a start button,
  * an exit button, and a rules button
  */
 public class TitlePage extends StackPane {
 
-    //Stores the image url
-    private static final String TITLE_IMAGE_URL = "/images/GOTitleImage.png";
-
     //Start Button object
     private final Button btnStart;
+    //Play computer button object
+    private final Button btnComputer;
     //Quit button object
     private final Button btnQuit;
     //Rules button object
@@ -35,7 +33,12 @@ public class TitlePage extends StackPane {
         //Start button
         btnStart = createStyledButton("Start");
         //Start button click event handler
-        btnStart.setOnAction(e -> startGame());
+        btnStart.setOnAction(e -> startGame(new GamePage()));
+
+        //Play computer button
+        btnComputer = createStyledButton("Play Computer");
+        //Play computer button click event handler
+        btnComputer.setOnAction(e -> startGame(new GamePage(new AIPlayer("Computer", Team.WHITE))));
 
         //Quit button
         btnQuit = createStyledButton("Quit");
@@ -71,8 +74,8 @@ public class TitlePage extends StackPane {
      */
     private ImageView createTitleImageView() {
         try {
-            Image img = new Image(Objects.requireNonNull(getClass().getResourceAsStream(TITLE_IMAGE_URL)), 640, 426, false, false);
-            return new ImageView(img);
+            // cached, so returning to the title page does not decode the image again
+            return new ImageView(Textures.get(Textures.TITLE, 640, 426));
         } catch (Exception e) {
             System.out.println("Image Open error: " + e);
             return new ImageView(); // Return an empty ImageView in case of image loading failure
@@ -80,12 +83,12 @@ public class TitlePage extends StackPane {
     }
 
     /**
-    Creates an HBox with the three buttons
-    @return HBox containing three buttons
+    Creates an HBox with the four buttons
+    @return HBox containing four buttons
      */
     private HBox createButtonBox() {
         HBox hBox = new HBox();
-        hBox.getChildren().addAll(btnStart, btnQuit, btnRules);
+        hBox.getChildren().addAll(btnStart, btnComputer, btnQuit, btnRules);
         //align the buttons at the bottom center
         hBox.setAlignment(Pos.BOTTOM_CENTER);
         //set spacing for buttons
@@ -115,12 +118,11 @@ public class TitlePage extends StackPane {
     }
 
     /**
-     * Starts the game, called when the user presses the start button
-     *
+     * Starts the game, called when the user presses the start or play computer button
+     * @param gamePage The page of the game to start
      */
-    private void startGame() {
+    private void startGame(GamePage gamePage) {
         Stage stage = (Stage) getScene().getWindow();
-        GamePage gamePage = new GamePage();
         Scene scene = new Scene(gamePage);
 
         // Set the new scene on the stage
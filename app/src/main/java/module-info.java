@@ -1,5 +1,6 @@
 module me.teamone.gogame {
 	requires transitive javafx.graphics;
     requires javafx.controls;
+    requires transitive me.teamone.gogame.core;
     exports me.teamone.gogame;
 }
@@ -0,0 +1,75 @@
+package me.teamone.gogame.bench;
+
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.model.GameState;
+import me.teamone.gogame.core.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Neighbour lookups on {@link Position}, asked of every point of a recorded game halfway through,
+ * when the board has stones, captures and open points.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class AdjacencyBenchmark {
+
+    @Param({"9", "13", "19"})
+    public int size;
+
+    private Position position;
+
+    @Setup(Level.Trial)
+    public void record() {
+        RecordedGame recorded = RecordedGame.record(size);
+        GameState state = new GameState(size, KoRule.POSITIONAL);
+        for (int i = 0; i < recorded.moves.length / 2; i++) {
+            state.makeMove(recorded.moves[i]);
+        }
+        position = state.getPosition();
+    }
+
+    /**
+     * The up to eight neighbours of every point, as a list of coordinates.
+     */
+    @Benchmark
+    public int adjacentPoints() {
+        int total = 0;
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                total += position.getAdjacentPoints(x, y).size();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * The open orthogonal neighbours of every point.
+     */
+    @Benchmark
+    public int libertiesFree() {
+        int total = 0;
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                total += position.libertiesFree(x, y);
+            }
+        }
+        return total;
+    }
+}
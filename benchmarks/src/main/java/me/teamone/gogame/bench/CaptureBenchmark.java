@@ -0,0 +1,68 @@
+package me.teamone.gogame.bench;
+
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.model.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capture resolution, {@link GameState#makeMove(int)} labelling and capturing the regions around
+ * each move, without the console and player bookkeeping of the game. Every move is taken back
+ * afterwards, so the same state is reused and the undo path is measured too.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CaptureBenchmark {
+
+    @Param({"9", "13", "19"})
+    public int size;
+
+    private RecordedGame recorded;
+    private GameState state;
+
+    @Setup(Level.Trial)
+    public void record() {
+        recorded = RecordedGame.record(size);
+        state = new GameState(size, KoRule.POSITIONAL);
+    }
+
+    /**
+     * Every move of the recorded game made, then all taken back.
+     */
+    @Benchmark
+    public void makeAndUnmake(Blackhole blackhole) {
+        for (int move : recorded.moves) {
+            blackhole.consume(state.makeMove(move));
+        }
+        while (state.getDepth() > 0) {
+            state.unmakeMove();
+        }
+    }
+
+    /**
+     * Every move of the recorded game made on a new state, the way the game makes moves.
+     */
+    @Benchmark
+    public GameState makeOnly() {
+        GameState fresh = new GameState(size, KoRule.POSITIONAL);
+        recorded.playOnto(fresh);
+        return fresh;
+    }
+}
@@ -0,0 +1,83 @@
+package me.teamone.gogame.bench;
+
+import me.teamone.gogame.core.Game;
+import me.teamone.gogame.core.gameobjects.Player;
+import me.teamone.gogame.core.helpers.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves played through {@link Game}, the path the client takes: checks, ko, captures, scoring and
+ * the turn change.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    @Param({"9", "13", "19"})
+    public int size;
+
+    private RecordedGame recorded;
+
+    private Game game;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void record() {
+        recorded = RecordedGame.record(size);
+    }
+
+    /**
+     * Start the game again once every move has been played, so each invocation has a move to play.
+     */
+    @Setup(Level.Invocation)
+    public void nextMove() {
+        if (game == null || next == recorded.moves.length) {
+            game = newGame();
+            next = 0;
+        }
+    }
+
+    private Game newGame() {
+        return new Game(new Player("Black", Team.BLACK), new Player("White", Team.WHITE), 0, size);
+    }
+
+    /**
+     * Latency of one move of the recorded game, the moves taken in turn.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Game playerTurn() throws Exception {
+        game.playMove(recorded.moves[next++]);
+        return game;
+    }
+
+    /**
+     * A whole recorded game from an empty board, including making the game.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Game fullGame() throws Exception {
+        Game fresh = newGame();
+        for (int move : recorded.moves) {
+            fresh.playMove(move);
+        }
+        return fresh;
+    }
+}
@@ -0,0 +1,71 @@
+package me.teamone.gogame.bench;
+
+import me.teamone.gogame.core.ai.PlayoutBoard;
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random playouts on the playout board, the inner loop of the computer player, reported as playouts
+ * per second on one thread. The random source is seeded once per trial, so runs see the same games.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class PlayoutBenchmark {
+
+    @Param({"9", "13", "19"})
+    public int size;
+
+    private PlayoutBoard board;
+    private GameState midGame;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void record() {
+        board = new PlayoutBoard(size);
+        random = new SplittableRandom(RecordedGame.SEED);
+        // the recorded game stopped half way, where a search usually starts its playouts
+        RecordedGame recorded = RecordedGame.record(size);
+        midGame = new GameState(size, KoRule.POSITIONAL);
+        for (int i = 0; i < recorded.moves.length / 2; i++) {
+            midGame.makeMove(recorded.moves[i]);
+        }
+    }
+
+    /**
+     * A whole playout from an empty board.
+     */
+    @Benchmark
+    public Team emptyBoard() {
+        board.clear();
+        return board.playout(random);
+    }
+
+    /**
+     * A playout from the middle of a recorded game, loading the position included.
+     */
+    @Benchmark
+    public Team midGame() {
+        board.load(midGame);
+        return board.playout(random);
+    }
+}
@@ -0,0 +1,83 @@
+package me.teamone.gogame.bench;
+
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.GameState;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Move sequences the benchmarks replay. <br>
+ * Each game is played once to the end from a fixed seed, picking among the legal moves, so every
+ * run of every benchmark sees exactly the same moves, captures and passes.
+ */
+final class RecordedGame {
+
+    /**
+     * Seed of the recorded games, change it only together with any saved baseline.
+     */
+    static final long SEED = 20240419L;
+
+    final int size;
+    /**
+     * Bit indexes of the moves in order, GameState.PASS for passes.
+     */
+    final int[] moves;
+    /**
+     * Bit indexes of the stones placed, the moves that are not passes.
+     */
+    final int[] stones;
+    /**
+     * Team of each stone placed.
+     */
+    final Team[] stoneTeams;
+
+    private RecordedGame(int size, int[] moves, int[] stones, Team[] stoneTeams) {
+        this.size = size;
+        this.moves = moves;
+        this.stones = stones;
+        this.stoneTeams = stoneTeams;
+    }
+
+    /**
+     * Play a game to the end and record its moves.
+     * @param size The board size.
+     * @return The recorded game.
+     */
+    static RecordedGame record(int size) {
+        GameState state = new GameState(size, KoRule.POSITIONAL);
+        SplittableRandom random = new SplittableRandom(SEED + size);
+        int bits = state.getPosition().getBitBoard().getBitCount();
+        int[] buffer = new int[bits];
+        // open points never come back and a pass that does not end the game is followed by a stone,
+        // so there are at most two moves per point and the closing passes
+        int[] moves = new int[2 * bits + 2];
+        int[] stones = new int[bits];
+        Team[] stoneTeams = new Team[bits];
+        int count = 0;
+        int stoneCount = 0;
+        while (!state.isGameOver()) {
+            int legal = state.getMoves().generate(state.getToMove(), buffer);
+            int move = legal == 0 ? GameState.PASS : buffer[random.nextInt(legal)];
+            if (move != GameState.PASS) {
+                stones[stoneCount] = move;
+                stoneTeams[stoneCount++] = state.getToMove();
+            }
+            state.makeMove(move);
+            moves[count++] = move;
+        }
+        return new RecordedGame(size, Arrays.copyOf(moves, count),
+                Arrays.copyOf(stones, stoneCount), Arrays.copyOf(stoneTeams, stoneCount));
+    }
+
+    /**
+     * Play the recorded game onto a state.
+     * @param state A state at the start of the game.
+     */
+    void playOnto(GameState state) {
+        for (int move : moves) {
+            state.makeMove(move);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package me.teamone.gogame.bench;
+
+import me.teamone.gogame.core.ai.PlayoutBoard;
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.BitBoard;
+import me.teamone.gogame.core.model.GameState;
+import me.teamone.gogame.core.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End of game scoring of a finished recorded game. The game scores captured points, counted here
+ * from the capture planes, and the same count made by the playout board after loading the position.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ScoringBenchmark {
+
+    @Param({"9", "13", "19"})
+    public int size;
+
+    private GameState state;
+    private PlayoutBoard board;
+
+    @Setup(Level.Trial)
+    public void record() {
+        state = new GameState(size, KoRule.POSITIONAL);
+        RecordedGame.record(size).playOnto(state);
+        board = new PlayoutBoard(size);
+    }
+
+    /**
+     * Count both teams' captured points on the position.
+     */
+    @Benchmark
+    public int capturePlanes() {
+        Position position = state.getPosition();
+        return BitBoard.count(position.capturePlane(Team.BLACK)) - BitBoard.count(position.capturePlane(Team.WHITE));
+    }
+
+    /**
+     * Load the position onto a playout board and score it, the end of every search playout.
+     */
+    @Benchmark
+    public double playoutBoard() {
+        board.load(state);
+        return board.score();
+    }
+}
@@ -0,0 +1,64 @@
+package me.teamone.gogame.bench;
+
+import me.teamone.gogame.core.model.Position;
+import me.teamone.gogame.core.model.StringTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String merging, {@link StringTracker} following stones as they are placed. The recorded stones
+ * are placed without captures, so every stone joins or starts a string, then removed again in
+ * reverse, which splits them back up.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class StringBenchmark {
+
+    @Param({"9", "13", "19"})
+    public int size;
+
+    private RecordedGame recorded;
+    private Position position;
+    private StringTracker strings;
+
+    @Setup(Level.Trial)
+    public void record() {
+        recorded = RecordedGame.record(size);
+        position = new Position(size, size);
+        strings = new StringTracker(position);
+    }
+
+    /**
+     * Place every recorded stone, then remove them newest first.
+     */
+    @Benchmark
+    public int placeAndRemove() {
+        int[] stones = recorded.stones;
+        for (int i = 0; i < stones.length; i++) {
+            position.putStone(stones[i], recorded.stoneTeams[i]);
+        }
+        // read a string so the merges cannot be put off
+        int root = strings.findIndex(stones[stones.length - 1]);
+        int liberties = strings.getLibertyCount(root);
+        for (int i = stones.length - 1; i >= 0; i--) {
+            position.removeStone(stones[i]);
+        }
+        return liberties;
+    }
+}
@@ -0,0 +1,456 @@
+package me.teamone.gogame.core;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import me.teamone.gogame.core.events.EventLevel;
+import me.teamone.gogame.core.events.GameEvent;
+import me.teamone.gogame.core.events.GameEventLog;
+import me.teamone.gogame.core.exceptions.*;
+import me.teamone.gogame.core.gameobjects.Player;
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.GameState;
+import me.teamone.gogame.core.model.InfluenceMap;
+import me.teamone.gogame.core.model.Position;
+import me.teamone.gogame.core.model.Score;
+import me.teamone.gogame.core.model.Scorer;
+import me.teamone.gogame.core.model.StringTracker;
+
+import java.util.HashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Game class. Contains the logic for a game of go.
+ */
+public class Game {
+    private final Player blackPlayer;
+    private final Player whitePlayer;
+    // union-find of the strings on the board, attached only while a DEBUG listener is subscribed
+    private StringTracker strings;
+    // working buffer for the string roots next to a move
+    private final int[] stringBuffer;
+    // the board, side to move and history, moves are made through it
+    private final GameState state;
+    // counts the board under the game's scoring rule
+    private final Scorer scorer;
+    // the count after the last move
+    private Score score;
+    // influence of the stones, followed point by point for the live estimate
+    private final InfluenceMap influence;
+
+    /*
+    Added by Taran
+    Property to hold the string to display the current player's turn
+     */
+    private final StringProperty currentPlayerStringProperty = new SimpleStringProperty("");
+
+    // the estimated result and black's share of the estimated points, for the live estimate bar
+    private final StringProperty estimateStringProperty = new SimpleStringProperty("");
+    private final DoubleProperty blackShareProperty = new SimpleDoubleProperty(0.5);
+    // moves, captures and merges, for whoever subscribes
+    private final GameEventLog events = new GameEventLog();
+    // runs the property updates of each move
+    private Executor publisher = Runnable::run;
+
+    private final Position position;
+    private final int handicapCount;
+    /**
+     * Counter of stones placed. moves up 1 by every stone placed
+     */
+    private int moveCount;
+
+    /**
+     * Constructor, creates a new game instance.
+     * @param bp Player 1, this is the black player.
+     * @param wp Player 2, this is the white player.
+     * @param handicap The amount of handicap stones for the white player, should be 0-9.
+     * @param size The size of the board. Example: 19 would use a 19x19 board.
+     */
+    public Game(Player bp, Player wp, int handicap, int size) {
+        this(bp, wp, handicap, size, KoRule.POSITIONAL);
+    }
+
+    /**
+     * Constructor, creates a new game instance.
+     * @param bp Player 1, this is the black player.
+     * @param wp Player 2, this is the white player.
+     * @param handicap The amount of handicap stones for the white player, should be 0-9.
+     * @param size The size of the board. Example: 19 would use a 19x19 board.
+     * @param koRule The rule used to stop positions from repeating.
+     */
+    public Game(Player bp, Player wp, int handicap, int size, KoRule koRule) {
+        this(bp, wp, handicap, size, koRule, ScoringRule.CAPTURES, 0);
+    }
+
+    /**
+     * Constructor, creates a new game instance.
+     * @param bp Player 1, this is the black player.
+     * @param wp Player 2, this is the white player.
+     * @param handicap The amount of handicap stones for the white player, should be 0-9.
+     * @param size The size of the board. Example: 19 would use a 19x19 board.
+     * @param koRule The rule used to stop positions from repeating.
+     * @param scoringRule The rule used to count the board.
+     * @param komi The points given to the white player.
+     */
+    public Game(Player bp, Player wp, int handicap, int size, KoRule koRule, ScoringRule scoringRule, double komi) {
+        this.blackPlayer = bp;
+        this.whitePlayer = wp;
+
+        this.state = new GameState(size, koRule);
+        this.position = state.getPosition();
+        this.handicapCount = handicap;
+        this.moveCount = 0;
+        this.stringBuffer = new int[position.getBitBoard().getBitCount()];
+        this.influence = new InfluenceMap(position);
+        this.scorer = new Scorer(position, scoringRule, komi);
+        this.score = scorer.score();
+        publishState();
+    }
+
+    /**
+     * Fill an array with every legal move for the current player. Never throws or changes the game.
+     * @param dst The array to fill with bit indexes, board bit count long is always enough.
+     * @return The number of moves written.
+     */
+    public int getLegalMoves(int[] dst) {
+        return state.getMoves().generate(state.getToMove(), dst);
+    }
+
+    /**
+     * Check if the current player may play a point. Never throws or changes the game.
+     * @param coords The coordinates of the point.
+     * @return True if the move is legal.
+     */
+    public boolean isLegalMove(int[] coords) {
+        return position.isOnBoard(coords[0], coords[1])
+                && state.getMoves().isLegal(state.getToMove(), position.getBitBoard().index(coords[0], coords[1]));
+    }
+
+    /**
+     * Method for a player turn
+     *
+     * @param coords The coordinates to place a stone
+     */
+    public void playerTurn(int[] coords) throws StonePlacementException, SpaceFilledException, isCapturedException, NoStoneException, mismatchedTeamsException, noStringMatchException, StringCreationException, KoException {
+        Team team = state.getToMove();
+        int x = coords[0];
+        int y = coords[1];
+        this.position.checkOpen(x, y);
+        // the strings the stone touches, only tracked while someone is listening for merges
+        StringTracker strings = debugStrings();
+        int touching = strings != null ? countTouchingStrings(strings, x, y, team) : 0;
+        int ply = state.getDepth();
+        // place the stone and capture any region it encloses
+        int captured = state.makeMove(position.getBitBoard().index(x, y));
+        if (state.repeatsPosition()) {
+            state.unmakeMove();
+            throw new KoException("Space at " + x + "x" + y + " would repeat a position under " + state.getKoRule() + " ko!");
+        }
+        // if nothing goes wrong, increment counter
+        this.moveCount++;
+
+        if (events.isEnabled(EventLevel.INFO)) {
+            events.publish(GameEvent.movePlayed(ply, team, x, y, captured));
+            if (captured > 0) {
+                events.publish(GameEvent.pointsCaptured(ply, team, x, y, captured));
+            }
+        }
+        if (touching > 1) {
+            int root = strings.find(x, y);
+            events.publish(GameEvent.stringsMerged(ply, team, x, y, touching,
+                    strings.getSize(root), strings.getLibertyCount(root)));
+        }
+
+        //calculate scores
+        score = scorer.score();
+
+        //the state has passed the turn, show the next player
+        publishState();
+    }
+
+    /**
+     * Get the string tracker while a listener wants DEBUG events. It is attached to the position
+     * when one first does and detached once none does, so moves pay for tracking strings only
+     * while merges are logged.
+     * @return The tracker, null with no DEBUG listener.
+     */
+    private StringTracker debugStrings() {
+        if (events.isEnabled(EventLevel.DEBUG)) {
+            if (strings == null) {
+                strings = new StringTracker(position);
+            }
+        } else if (strings != null) {
+            strings.detach();
+            strings = null;
+        }
+        return strings;
+    }
+
+    /**
+     * Count the distinct strings of a team next to a point, diagonals included, as strings join.
+     * @param strings The strings of the position.
+     * @param x The x position of the point.
+     * @param y The y position of the point.
+     * @param team The team.
+     * @return The number of strings.
+     */
+    private int countTouchingStrings(StringTracker strings, int x, int y, Team team) {
+        int size = position.getBitBoard().getSize();
+        int[] dx = {-1, 1, 0, 0, -1, 1, -1, 1};
+        int[] dy = {0, 0, -1, 1, -1, -1, 1, 1};
+        int count = 0;
+        for (int i = 0; i < 8; i++) {
+            int nx = x + dx[i];
+            int ny = y + dy[i];
+            if (nx < 0 || ny < 0 || nx >= size || ny >= size) {
+                continue;
+            }
+            int root = strings.find(nx, ny);
+            if (root == StringTracker.NONE || strings.getTeam(root) != team) {
+                continue;
+            }
+            boolean seen = false;
+            for (int j = 0; j < count; j++) {
+                seen |= stringBuffer[j] == root;
+            }
+            if (!seen) {
+                stringBuffer[count++] = root;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Play a move given as a bit index, the way the move generator and computer players give them.
+     * @param index The bit index of the point, or GameState.PASS to pass.
+     */
+    public void playMove(int index) throws StonePlacementException, SpaceFilledException, isCapturedException, NoStoneException, mismatchedTeamsException, noStringMatchException, StringCreationException, KoException {
+        if (index == GameState.PASS) {
+            pass();
+        } else {
+            playerTurn(new int[]{position.getBitBoard().x(index), position.getBitBoard().y(index)});
+        }
+    }
+
+    /**
+     * Pass the current player's turn. Always legal, two passes in a row end the game.
+     */
+    public void pass() {
+        if (events.isEnabled(EventLevel.INFO)) {
+            events.publish(GameEvent.passed(state.getDepth(), state.getToMove()));
+        }
+        state.pass();
+        publishState();
+    }
+
+    /**
+     * Check if the game is over, both players have passed in a row.
+     * @return True if the game is over.
+     */
+    public boolean isGameOver() {
+        return state.isGameOver();
+    }
+
+    /**
+     * Show the game after a move: the player to move, each player's points and the influence
+     * estimate. Everything is read here, on the thread making the move, and set in one update run
+     * by the publisher, so views bound to the properties see the whole move at once.
+     */
+    private void publishState() {
+        String name = getCurrentPlayer().getName();
+        int blackScore = score.getPoints(Team.BLACK);
+        int whiteScore = score.getPoints(Team.WHITE);
+        Score estimate = getEstimate();
+        double black = estimate.getPoints(Team.BLACK);
+        double white = estimate.getPoints(Team.WHITE) + estimate.getKomi();
+        String estimateResult = estimate.getResult();
+        double blackShare = black + white > 0 ? black / (black + white) : 0.5;
+        publisher.execute(() -> {
+            currentPlayerStringProperty.set(name);
+            blackPlayer.setScore(blackScore);
+            whitePlayer.setScore(whiteScore);
+            estimateStringProperty.set(estimateResult);
+            blackShareProperty.set(blackShare);
+        });
+    }
+
+    /**
+     * Set where the game's properties are updated. Moves made off the JavaFX application thread,
+     * see {@link MovePipeline}, publish with Platform::runLater. Runs in place by default.
+     * @param publisher The executor the property updates run on.
+     */
+    public void setPublisher(Executor publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * Estimate the final count from the influence of the stones, the open points each team's
+     * stones control counted as theirs. Read from the influence map, which follows every move.
+     * @return The estimate, under the game's scoring rule and komi.
+     */
+    public Score getEstimate() {
+        return influence.estimate(scorer.getRule(), scorer.getKomi());
+    }
+
+    /**
+     * Get the influence map, the estimated owner of every point.
+     * @return The influence map.
+     */
+    public InfluenceMap getInfluence() {
+        return influence;
+    }
+
+    /**
+     * Get the count of the board after the last move, under the game's scoring rule and komi.
+     * @return The score.
+     */
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Get the rule used to count the board.
+     * @return The scoring rule.
+     */
+    public ScoringRule getScoringRule() {
+        return scorer.getRule();
+    }
+
+    /**
+     * Get the points given to the white player.
+     * @return The komi.
+     */
+    public double getKomi() {
+        return scorer.getKomi();
+    }
+
+    /**
+     * Get the Zobrist hash of the game, the stones and captures on the board plus the side to move.
+     * Updated incrementally every move, so it is O(1) to read.
+     * @return The 64 bit hash.
+     */
+    public long getHash() {
+        return state.getHash();
+    }
+
+    /**
+     * Get the rule used to stop positions repeating.
+     * @return The ko rule.
+     */
+    public KoRule getKoRule() {
+        return state.getKoRule();
+    }
+
+    /**
+     * Get the game state, the board with its side to move and history. Copy it with
+     * {@link GameState#GameState(GameState)} to search variations without touching the game.
+     * @return The game state.
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * Get the current player, the player whose team the game state has to move.
+     */
+    public Player getCurrentPlayer() { return state.getToMove() == Team.BLACK ? blackPlayer : whitePlayer; }
+
+    /**
+     * Get the current player String
+     */
+    public StringProperty getCurrentPlayerStringProperty() { return currentPlayerStringProperty; }
+
+    /**
+     * Get the estimated result String, for example B+12.5
+     */
+    public StringProperty getEstimateStringProperty() { return estimateStringProperty; }
+
+    /**
+     * Get black's share of the estimated points, komi included, 0 to 1
+     */
+    public DoubleProperty getBlackShareProperty() { return blackShareProperty; }
+
+    /**
+     * Get the current winner of the game.
+     * @return The team of the current winner, komi included. If the game is tied returns a value of TIE.
+     */
+    public Team getCurrentWinner() {
+        return score.getWinner();
+    }
+
+    /**
+     * Get the game results.
+     * @return A hash map of key value pairs with the game results. Results include: winner, player1 score, player2 score,
+     * komi, the result as game records write it and the influence estimate.
+     */
+    public HashMap<String, String> getGameResults() {
+        HashMap<String, String> results = new HashMap<>();
+        results.put("winner", this.getCurrentWinner().toString());
+        // read from the score, the players' copies are updated by the publisher and may lag a move
+        results.put("bps", Integer.toString(score.getPoints(Team.BLACK)));
+        results.put("wps", Integer.toString(score.getPoints(Team.WHITE)));
+        results.put("komi", Double.toString(score.getKomi()));
+        results.put("result", score.getResult());
+        results.put("estimate", getEstimate().getResult());
+        return  results;
+    }
+
+    /**
+     * Get the black player.
+     * @return A player object for the black player.
+     */
+    public Player getBlackPlayer() {
+        return blackPlayer;
+    }
+
+    /**
+     * Get the white player.
+     * @return A player object for the white player.
+     */
+    public Player getWhitePlayer() {
+        return whitePlayer;
+    }
+
+    /**
+     * Get the game position. Views observe this to draw the board.
+     * @return The position object.
+     */
+    public Position getPosition() {
+        return position;
+    }
+
+    /**
+     * Get the number of stones placed so far.
+     * @return The move count.
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Gets the handicap count.
+     * @return The stone handicap count.
+     */
+    public int getHandicapCount() {
+        return handicapCount;
+    }
+
+    /**
+     * Check if a handicap exists for the game. Used for scorekeeping.
+     * @return True if a handicap exists, false if not.
+     */
+    public boolean isHandicap() {
+        return this.handicapCount > 0;
+    }
+
+    /**
+     * Get the event stream of the game. Events are published on the thread making the move.
+     * @return The event log.
+     */
+    public GameEventLog getEvents() {
+        return events;
+    }
+}
@@ -0,0 +1,152 @@
+package me.teamone.gogame.core;
+
+import me.teamone.gogame.core.events.EventLevel;
+import me.teamone.gogame.core.events.GameEvent;
+import me.teamone.gogame.core.events.GameEventLog;
+import me.teamone.gogame.core.gameobjects.AIPlayer;
+import me.teamone.gogame.core.model.BitBoard;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays a game's moves on its own thread. <br>
+ * Clicks and computer moves are queued to a single game thread, which checks and applies them one
+ * at a time, so the capture sweep and scoring never run on the caller's thread. The game publishes
+ * each move's results in one batch through the publisher given here, in the client
+ * Platform::runLater. Position listeners and game events are called on the game thread, and a
+ * move that is not allowed is published as a rejected move. <br>
+ * When a computer player is to move, its search starts from the game thread, and the move it
+ * picks is queued like any other. Clicks made while a computer player is to move are dropped, so
+ * if the search fails or its move is not allowed, a warning is published and the computer passes
+ * rather than leave the game waiting for a move that never comes.
+ */
+public class MovePipeline {
+
+    private final Game game;
+    private final ExecutorService executor;
+
+    /**
+     * Constructor; sends the game's property updates to a publisher.
+     * @param game The game to play.
+     * @param publisher Where the game's property updates run, Platform::runLater for a view.
+     */
+    public MovePipeline(Game game, Executor publisher) {
+        this.game = game;
+        game.setPublisher(publisher);
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "game");
+            // never keep the application alive just for a game
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start the computer player's search if it moves first.
+     */
+    public void start() {
+        submit(this::requestComputerMove);
+    }
+
+    /**
+     * Queue a clicked point for the current player. Dropped if a computer player is to move.
+     * @param coords The [x, y] of the point.
+     */
+    public void click(int[] coords) {
+        int[] point = coords.clone();
+        submit(() -> {
+            if (game.getCurrentPlayer() instanceof AIPlayer) {
+                return;
+            }
+            try {
+                game.playerTurn(point);
+            }
+            catch (Exception exc) {
+                reject(point[0], point[1], exc);
+                return;
+            }
+            requestComputerMove();
+        });
+    }
+
+    /**
+     * Queue a pass for the current player. Dropped if a computer player is to move.
+     */
+    public void pass() {
+        submit(() -> {
+            if (game.getCurrentPlayer() instanceof AIPlayer) {
+                return;
+            }
+            game.pass();
+            requestComputerMove();
+        });
+    }
+
+    /**
+     * If a computer player is to move, start its search. The state is copied here on the game
+     * thread, and the move it picks comes back through the queue.
+     */
+    private void requestComputerMove() {
+        if (!(game.getCurrentPlayer() instanceof AIPlayer) || game.isGameOver()) {
+            return;
+        }
+        AIPlayer computer = (AIPlayer) game.getCurrentPlayer();
+        computer.chooseMove(game.getState(), game.getScoringRule(), game.getKomi()).whenComplete((move, failure) -> submit(() -> {
+            if (game.getCurrentPlayer() != computer) {
+                return;
+            }
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+                GameEventLog events = game.getEvents();
+                if (events.isEnabled(EventLevel.WARN)) {
+                    events.publish(GameEvent.searchFailed(game.getState().getDepth(), computer.getTeam(), String.valueOf(cause)));
+                }
+                game.pass();
+            } else {
+                try {
+                    game.playMove(move);
+                }
+                catch (Exception exc) {
+                    BitBoard bitBoard = game.getState().getPosition().getBitBoard();
+                    reject(bitBoard.x(move), bitBoard.y(move), exc);
+                    game.pass();
+                }
+            }
+            requestComputerMove();
+        }));
+    }
+
+    private void reject(int x, int y, Exception exc) {
+        GameEventLog events = game.getEvents();
+        if (events.isEnabled(EventLevel.WARN)) {
+            events.publish(GameEvent.moveRejected(game.getState().getDepth(), game.getCurrentPlayer().getTeam(),
+                    x, y, exc.getMessage()));
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // shut down, the game is over
+        }
+    }
+
+    /**
+     * Stop taking moves and wait for the move being applied, so the game can be read safely after.
+     * Queued moves are dropped.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package me.teamone.gogame.core.ai;
+
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.model.GameState;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Something that picks moves, used where games are played without the client. <br>
+ * An engine is used by one thread at a time. Code that plays on several threads makes one engine
+ * per thread from a factory, see {@link #parse(String, ScoringRule, double)}.
+ */
+public interface Engine {
+
+    /**
+     * Pick a move for the side to move. The state must be left as it was found.
+     * @param state The state to move in, not over.
+     * @return The bit index of a legal move, or {@link GameState#PASS}.
+     */
+    int chooseMove(GameState state);
+
+    /**
+     * Make an engine factory from a short description: <br>
+     * random - a uniformly random legal move <br>
+     * mcts:MILLIS[:PLAYOUTS] - a single threaded tree search with that budget per move
+     * @param spec The description.
+     * @param rule The scoring rule of the games played, which a search plays to.
+     * @param komi The komi of the games played.
+     * @return A factory giving a new engine on every call.
+     * @throws IllegalArgumentException If the description is not understood.
+     */
+    static Supplier<Engine> parse(String spec, ScoringRule rule, double komi) {
+        String[] parts = spec.split(":");
+        try {
+            if (parts[0].equals("random") && parts.length == 1) {
+                return RandomEngine::new;
+            } else if (parts[0].equals("mcts") && (parts.length == 2 || parts.length == 3)) {
+                long millis = Long.parseLong(parts[1]);
+                int playouts = parts.length == 3 ? Integer.parseInt(parts[2]) : Integer.MAX_VALUE;
+                return () -> new SearchEngine(new MctsSearch(millis, playouts), rule, komi);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad number in engine " + spec, e);
+        }
+        throw new IllegalArgumentException("Unknown engine " + spec + ", expected random or mcts:MILLIS[:PLAYOUTS]");
+    }
+
+    /**
+     * Plays a uniformly random legal move, passing only when there is none.
+     */
+    final class RandomEngine implements Engine {
+
+        private final SplittableRandom random = new SplittableRandom();
+        private int[] buffer = new int[0];
+
+        @Override
+        public int chooseMove(GameState state) {
+            int bits = state.getPosition().getBitBoard().getBitCount();
+            if (buffer.length < bits) {
+                buffer = new int[bits];
+            }
+            int count = state.getMoves().generate(state.getToMove(), buffer);
+            return count == 0 ? GameState.PASS : buffer[random.nextInt(count)];
+        }
+    }
+
+    /**
+     * Plays the move a tree search picks.
+     */
+    final class SearchEngine implements Engine {
+
+        private final MctsSearch search;
+        private final ScoringRule rule;
+        private final double komi;
+
+        SearchEngine(MctsSearch search, ScoringRule rule, double komi) {
+            this.search = search;
+            this.rule = rule;
+            this.komi = komi;
+        }
+
+        @Override
+        public int chooseMove(GameState state) {
+            return search.search(state, rule, komi);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package me.teamone.gogame.core.ai;
+
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.GameState;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Node of the Monte Carlo search tree. <br>
+ * Holds the move that led to it, the team that played that move, the moves not tried from it yet
+ * and its visit and win counts. Wins are from the point of view of the team that played the move. <br>
+ * Nodes can be shared by several search threads. Visits and wins are updated with atomic field
+ * updaters, so selection and back propagation never lock. Visits are counted on the way down, which
+ * makes a node being searched look like a loss to the other threads until its result comes back
+ * (virtual loss), spreading the threads over different lines. Only adding a child takes the lock.
+ */
+class MctsNode {
+
+    private static final AtomicIntegerFieldUpdater<MctsNode> VISITS =
+            AtomicIntegerFieldUpdater.newUpdater(MctsNode.class, "visits");
+    private static final AtomicLongFieldUpdater<MctsNode> HALF_WINS =
+            AtomicLongFieldUpdater.newUpdater(MctsNode.class, "halfWins");
+
+    final int move;
+    final Team mover;
+    final MctsNode parent;
+
+    /**
+     * Moves from this node that have no child yet, guarded by the node's lock.
+     */
+    private int[] untried;
+    /**
+     * Number of untried moves, -1 until they have been generated.
+     */
+    private volatile int untriedCount = -1;
+
+    /**
+     * Children, written under the lock before childCount is raised, so readers see them complete.
+     */
+    private MctsNode[] children;
+    private volatile int childCount = 0;
+
+    private volatile int visits;
+    /**
+     * Wins counted in halves, a win is 2 and a tie is 1, so they fit an atomic long.
+     */
+    private volatile long halfWins = 0;
+
+    MctsNode(int move, Team mover, MctsNode parent) {
+        this.move = move;
+        this.mover = mover;
+        this.parent = parent;
+        // a new child already carries the visit of the thread that added it
+        this.visits = parent == null ? 0 : 1;
+    }
+
+    /**
+     * @return True if every move of this node has a child.
+     */
+    boolean isFullyExpanded() {
+        return untriedCount == 0;
+    }
+
+    /**
+     * Add a child for a random untried move, generating the moves first if needed.
+     * @param state The state at this node, used to generate its moves.
+     * @param random The random source.
+     * @param buffer A move buffer at least the board's bit count long.
+     * @return The new child, null if every move already has one.
+     */
+    synchronized MctsNode expand(GameState state, SplittableRandom random, int[] buffer) {
+        if (untriedCount < 0) {
+            int count = state.getMoves().generate(state.getToMove(), buffer);
+            if (count == 0) {
+                // nowhere left to play, passing is the only move
+                untried = new int[]{GameState.PASS};
+                count = 1;
+            } else {
+                untried = java.util.Arrays.copyOf(buffer, count);
+            }
+            children = new MctsNode[count];
+            untriedCount = count;
+        }
+        int remaining = untriedCount;
+        if (remaining == 0) {
+            return null;
+        }
+        int slot = random.nextInt(remaining);
+        int childMove = untried[slot];
+        untried[slot] = untried[remaining - 1];
+        MctsNode child = new MctsNode(childMove, state.getToMove(), this);
+        children[childCount] = child;
+        childCount = childCount + 1;
+        untriedCount = remaining - 1;
+        return child;
+    }
+
+    /**
+     * Pick the child with the best UCT value and count a visit to it.
+     * @param exploration The exploration constant.
+     * @return The child.
+     */
+    MctsNode selectChild(double exploration) {
+        double logVisits = Math.log(visits);
+        MctsNode best = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        int count = childCount;
+        for (int i = 0; i < count; i++) {
+            MctsNode child = children[i];
+            int childVisits = child.visits;
+            double value = child.halfWins / (2.0 * childVisits) + exploration * Math.sqrt(logVisits / childVisits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        best.addVisit();
+        return best;
+    }
+
+    void addVisit() {
+        VISITS.incrementAndGet(this);
+    }
+
+    /**
+     * Count the result of a playout through this node, its visit was already counted on the way down.
+     * @param winner The winner of the playout.
+     */
+    void addResult(Team winner) {
+        if (winner == mover) {
+            HALF_WINS.addAndGet(this, 2);
+        } else if (winner == Team.TIE) {
+            HALF_WINS.addAndGet(this, 1);
+        }
+    }
+
+    int getVisits() {
+        return visits;
+    }
+
+    int getChildCount() {
+        return childCount;
+    }
+
+    MctsNode getChild(int i) {
+        return children[i];
+    }
+
+    /**
+     * Get the most visited child, the move to play.
+     * @return The child, null if there are none.
+     */
+    MctsNode mostVisitedChild() {
+        MctsNode best = null;
+        int count = childCount;
+        for (int i = 0; i < count; i++) {
+            if (best == null || children[i].visits > best.visits) {
+                best = children[i];
+            }
+        }
+        return best;
+    }
+}
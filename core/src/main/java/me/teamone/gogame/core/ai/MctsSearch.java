@@ -0,0 +1,303 @@
+package me.teamone.gogame.core.ai;
+
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Monte Carlo tree search using UCT. <br>
+ * Every iteration walks down the tree picking the child with the best upper confidence bound, adds
+ * one new child, plays random moves to the end of the game and counts the result back up the path.
+ * Tree moves are made and unmade on one {@link GameState} per thread, and playouts run on a
+ * {@link PlayoutBoard} loaded from it, so an iteration never allocates.
+ * The search stops at whichever comes first of its time budget and its playout budget. <br>
+ * With more than one thread the search runs either tree parallel, every thread working on one
+ * shared tree (see {@link MctsNode} for how it avoids locks), or root parallel, every thread growing
+ * its own tree with the root visits summed at the end.
+ */
+public class MctsSearch {
+
+    /**
+     * Exploration constant, sqrt(2) is the textbook value for rewards between 0 and 1.
+     */
+    public static final double DEFAULT_EXPLORATION = 1.4;
+
+    /**
+     * How the work is split between threads.
+     */
+    public enum Parallelism {
+        /**
+         * One shared tree, counters updated atomically with virtual loss.
+         */
+        TREE,
+        /**
+         * A tree per thread, merged at the root. Needs no sharing, for when the shared tree contends.
+         */
+        ROOT
+    }
+
+    private final long timeBudgetMillis;
+    private final int playoutBudget;
+    private final double exploration;
+    private final int threads;
+    private final Parallelism parallelism;
+    private final SplittableRandom random;
+    /**
+     * Worker threads, null when searching on the caller's thread only.
+     */
+    private final ExecutorService pool;
+
+    private int lastPlayouts = 0;
+    private long lastElapsedNanos = 0;
+
+    /**
+     * Constructor, single threaded.
+     * @param timeBudgetMillis The longest a search may run, in milliseconds.
+     * @param playoutBudget The most playouts a search may run.
+     */
+    public MctsSearch(long timeBudgetMillis, int playoutBudget) {
+        this(timeBudgetMillis, playoutBudget, 1, Parallelism.TREE);
+    }
+
+    /**
+     * Constructor.
+     * @param timeBudgetMillis The longest a search may run, in milliseconds.
+     * @param playoutBudget The most playouts a search may run, over all threads.
+     * @param threads The number of search threads.
+     * @param parallelism How the threads share the work.
+     */
+    public MctsSearch(long timeBudgetMillis, int playoutBudget, int threads, Parallelism parallelism) {
+        this(timeBudgetMillis, playoutBudget, threads, parallelism, DEFAULT_EXPLORATION, new SplittableRandom());
+    }
+
+    /**
+     * Constructor.
+     * @param timeBudgetMillis The longest a search may run, in milliseconds.
+     * @param playoutBudget The most playouts a search may run, over all threads.
+     * @param threads The number of search threads.
+     * @param parallelism How the threads share the work.
+     * @param exploration The UCT exploration constant.
+     * @param random The random source for expansion and playouts, split for each thread.
+     */
+    public MctsSearch(long timeBudgetMillis, int playoutBudget, int threads, Parallelism parallelism,
+                      double exploration, SplittableRandom random) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Need at least one search thread, was " + threads);
+        }
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.playoutBudget = playoutBudget;
+        this.threads = threads;
+        this.parallelism = parallelism;
+        this.exploration = exploration;
+        this.random = random;
+        if (threads == 1) {
+            this.pool = null;
+        } else {
+            AtomicInteger workerNumber = new AtomicInteger();
+            this.pool = Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, "mcts-" + workerNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Search for the best move for the side to move, counting playouts by captures with no komi.
+     * The state is left as it was found. With one thread it is searched in place, pass a copy if
+     * the original is in use elsewhere.
+     * @param state The state to search from.
+     * @return The bit index of the chosen move, or {@link GameState#PASS}.
+     */
+    public int search(GameState state) {
+        return search(state, ScoringRule.CAPTURES, 0);
+    }
+
+    /**
+     * Search for the best move for the side to move, counting playouts as the game is counted.
+     * The state is left as it was found, see {@link #search(GameState)}.
+     * @param state The state to search from.
+     * @param rule The game's scoring rule.
+     * @param komi The game's komi.
+     * @return The bit index of the chosen move, or {@link GameState#PASS}.
+     */
+    public int search(GameState state, ScoringRule rule, double komi) {
+        long start = System.nanoTime();
+        long deadline = start + timeBudgetMillis * 1_000_000L;
+        AtomicInteger claimed = new AtomicInteger();
+        Team rootMover = Team.getOpposite(state.getToMove());
+        int bits = state.getPosition().getBitBoard().getBitCount();
+        int move;
+        if (pool == null) {
+            MctsNode root = new MctsNode(GameState.PASS, rootMover, null);
+            lastPlayouts = new Worker(state, random.split(), bits, rule, komi).run(root, claimed, deadline);
+            move = bestMove(root);
+        } else {
+            MctsNode shared = new MctsNode(GameState.PASS, rootMover, null);
+            MctsNode[] roots = new MctsNode[threads];
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                roots[t] = parallelism == Parallelism.TREE ? shared : new MctsNode(GameState.PASS, rootMover, null);
+                // copies and random streams are made here, SplittableRandom is not thread safe
+                Worker worker = new Worker(new GameState(state), random.split(), bits, rule, komi);
+                MctsNode root = roots[t];
+                results.add(pool.submit(() -> worker.run(root, claimed, deadline)));
+            }
+            lastPlayouts = 0;
+            for (Future<Integer> result : results) {
+                lastPlayouts += join(result);
+            }
+            move = parallelism == Parallelism.TREE ? bestMove(shared) : mergedBestMove(roots, bits);
+        }
+        lastElapsedNanos = System.nanoTime() - start;
+        return move;
+    }
+
+    private static int join(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search thread failed", e.getCause());
+        }
+    }
+
+    private static int bestMove(MctsNode root) {
+        MctsNode best = root.mostVisitedChild();
+        return best == null ? GameState.PASS : best.move;
+    }
+
+    /**
+     * Sum the root visits of every tree by move and pick the most visited. Pass is kept in the last slot.
+     */
+    private static int mergedBestMove(MctsNode[] roots, int bits) {
+        long[] visits = new long[bits + 1];
+        for (MctsNode root : roots) {
+            for (int i = 0; i < root.getChildCount(); i++) {
+                MctsNode child = root.getChild(i);
+                visits[child.move == GameState.PASS ? bits : child.move] += child.getVisits();
+            }
+        }
+        int best = bits;
+        for (int i = 0; i < bits; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        return best == bits ? GameState.PASS : best;
+    }
+
+    /**
+     * Get the number of playouts the last search ran, over all threads.
+     * @return The playout count.
+     */
+    public int getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    /**
+     * Get the playout rate of the last search, over all threads.
+     * @return Playouts per second.
+     */
+    public double getLastPlayoutsPerSecond() {
+        return lastElapsedNanos == 0 ? 0 : lastPlayouts * 1e9 / lastElapsedNanos;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public Parallelism getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Stop the worker threads. Searches must not be started afterwards.
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * One search thread, with its own state, playout board, random stream and move buffer.
+     */
+    private final class Worker {
+
+        private final GameState state;
+        private final PlayoutBoard board;
+        private final SplittableRandom random;
+        private final int[] moveBuffer;
+
+        Worker(GameState state, SplittableRandom random, int bits, ScoringRule rule, double komi) {
+            this.state = state;
+            this.board = new PlayoutBoard(state.getPosition().getBitBoard().getSize(), rule, komi);
+            this.random = random;
+            this.moveBuffer = new int[bits];
+        }
+
+        /**
+         * Run iterations until the budget is used up.
+         * @return The number of playouts run.
+         */
+        int run(MctsNode root, AtomicInteger claimed, long deadline) {
+            int playouts = 0;
+            while (claimed.getAndIncrement() < playoutBudget && System.nanoTime() < deadline) {
+                iterate(root);
+                playouts++;
+            }
+            return playouts;
+        }
+
+        private void iterate(MctsNode root) {
+            int startDepth = state.getDepth();
+            MctsNode node = root;
+            root.addVisit();
+
+            // selection, follow the best child while every move of a node has been tried
+            while (!state.isGameOver() && node.isFullyExpanded()) {
+                node = node.selectChild(exploration);
+                state.makeMove(node.move);
+            }
+            // expansion, another thread may have taken the last untried move, then just play out from here
+            if (!state.isGameOver()) {
+                MctsNode child = node.expand(state, random, moveBuffer);
+                if (child != null) {
+                    node = child;
+                    state.makeMove(node.move);
+                }
+            }
+            // simulation
+            Team winner = playout();
+            // back propagation, visits were counted on the way down
+            for (MctsNode n = node; n != null; n = n.parent) {
+                n.addResult(winner);
+            }
+            while (state.getDepth() > startDepth) {
+                state.unmakeMove();
+            }
+        }
+
+        /**
+         * Play random moves to the end of the game on the light board, which skips the ko checks
+         * and undo records the tree needs.
+         * @return The winner of the game.
+         */
+        private Team playout() {
+            board.load(state);
+            return board.playout(random);
+        }
+    }
+}
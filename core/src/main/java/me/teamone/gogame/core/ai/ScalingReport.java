@@ -0,0 +1,49 @@
+package me.teamone.gogame.core.ai;
+
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.model.GameState;
+
+/**
+ * Command line report of how the search scales with threads. <br>
+ * Runs a fixed length search from an empty board at 1, 2, 4, ... threads up to the core count,
+ * in both parallel modes, and prints playouts per second and the speedup over one thread. <br>
+ * Usage: ScalingReport [board size] [seconds per run] [max threads]
+ */
+public class ScalingReport {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 19;
+        long millis = args.length > 1 ? (long) (Double.parseDouble(args[1]) * 1000) : 2000;
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.println("board " + size + "x" + size + ", " + millis + " ms per run, up to " + maxThreads + " threads");
+        System.out.printf("%-6s %8s %14s %8s%n", "mode", "threads", "playouts/s", "speedup");
+        for (MctsSearch.Parallelism parallelism : MctsSearch.Parallelism.values()) {
+            double base = 0;
+            for (int threads = 1; threads <= maxThreads; threads = nextThreadCount(threads, maxThreads)) {
+                MctsSearch search = new MctsSearch(millis, Integer.MAX_VALUE, threads, parallelism);
+                // a short warm up run so the JIT has compiled the playout loop
+                if (threads == 1) {
+                    new MctsSearch(millis / 4, Integer.MAX_VALUE).search(new GameState(size, KoRule.POSITIONAL));
+                }
+                search.search(new GameState(size, KoRule.POSITIONAL));
+                search.shutdown();
+                double rate = search.getLastPlayoutsPerSecond();
+                if (threads == 1) {
+                    base = rate;
+                }
+                System.out.printf("%-6s %8d %14.0f %8.2f%n", parallelism, threads, rate, base == 0 ? 0 : rate / base);
+            }
+        }
+    }
+
+    /**
+     * Double the thread count, finishing exactly at the maximum.
+     */
+    private static int nextThreadCount(int threads, int maxThreads) {
+        if (threads == maxThreads) {
+            return maxThreads + 1;
+        }
+        return Math.min(threads * 2, maxThreads);
+    }
+}
@@ -0,0 +1,245 @@
+package me.teamone.gogame.core.ai;
+
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.GameState;
+import me.teamone.gogame.core.model.Scorer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Headless match between two engines, for checking whether an engine change is stronger. <br>
+ * Games are shared out over a pool of threads, each with its own pair of engines. The engines
+ * swap colours every game and white gets the handicap stones, on the star points. Games are won
+ * under the scoring rule and komi, which the search engines play to as well.
+ * At the end the first engine's score (wins plus half the ties) is printed with a 95% confidence
+ * interval, along with the games per second. <br>
+ * Usage: Tournament ENGINE_A ENGINE_B [games] [board size] [handicap] [threads] [rule] [komi] <br>
+ * Engines are described as in {@link Engine#parse(String, ScoringRule, double)}, for example:
+ * Tournament mcts:100 random 200 9 0 4 area 7.5
+ */
+public class Tournament {
+
+    private final Supplier<Engine> engineA;
+    private final Supplier<Engine> engineB;
+    private final int games;
+    private final int size;
+    private final int handicap;
+    private final ScoringRule rule;
+    private final double komi;
+    private final int threads;
+
+    /**
+     * Results by game number, from engine A's point of view.
+     */
+    private final Outcome[] outcomes;
+    private final int[] moveCounts;
+    private long elapsedNanos = 0;
+
+    /**
+     * The result of one game for engine A.
+     */
+    public enum Outcome {
+        WIN, LOSS, TIE
+    }
+
+    /**
+     * Constructor.
+     * @param engineA Factory for the first engine, black in even numbered games.
+     * @param engineB Factory for the second engine.
+     * @param games The number of games to play.
+     * @param size The board size.
+     * @param handicap The handicap stones given to white, see {@link GameState#placeHandicap(Team, int)}.
+     * @param rule The rule games are counted by.
+     * @param komi The points given to white.
+     * @param threads The number of games played at once.
+     * @throws IllegalArgumentException If there are no games or threads, or the board does not take the handicap.
+     */
+    public Tournament(Supplier<Engine> engineA, Supplier<Engine> engineB, int games, int size, int handicap,
+                      ScoringRule rule, double komi, int threads) {
+        if (games < 1 || threads < 1) {
+            throw new IllegalArgumentException("Need at least one game and one thread, was " + games + " and " + threads);
+        }
+        if (handicap < 0 || handicap > GameState.getHandicapLimit(size)) {
+            throw new IllegalArgumentException("A " + size + "x" + size + " board takes 0-"
+                    + GameState.getHandicapLimit(size) + " handicap stones, not " + handicap);
+        }
+        this.engineA = engineA;
+        this.engineB = engineB;
+        this.games = games;
+        this.size = size;
+        this.handicap = handicap;
+        this.rule = rule;
+        this.komi = komi;
+        this.threads = threads;
+        this.outcomes = new Outcome[games];
+        this.moveCounts = new int[games];
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: Tournament ENGINE_A ENGINE_B [games] [board size] [handicap] [threads] [rule] [komi]");
+            System.out.println("Engines: random, mcts:MILLIS[:PLAYOUTS]");
+            System.out.println("Rules: captures (default), territory, area");
+            return;
+        }
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int size = args.length > 3 ? Integer.parseInt(args[3]) : 9;
+        int handicap = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+        int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+        ScoringRule rule = ScoringRule.CAPTURES;
+        if (args.length > 6) {
+            try {
+                rule = ScoringRule.valueOf(args[6].toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.out.println("Unknown rule " + args[6] + ", expected captures, territory or area");
+                return;
+            }
+        }
+        double komi = args.length > 7 ? Double.parseDouble(args[7]) : 0;
+        int limit = GameState.getHandicapLimit(size);
+        if (handicap < 0 || handicap > limit) {
+            System.out.println("A " + size + "x" + size + " board takes 0-" + limit + " handicap stones, not " + handicap);
+            return;
+        }
+        Supplier<Engine> a = Engine.parse(args[0], rule, komi);
+        Supplier<Engine> b = Engine.parse(args[1], rule, komi);
+
+        System.out.println(args[0] + " vs " + args[1] + ", " + games + " games on " + size + "x" + size
+                + ", handicap " + handicap + ", " + rule + " komi " + komi + ", " + threads + " threads");
+        Tournament tournament = new Tournament(a, b, games, size, handicap, rule, komi, threads);
+        tournament.run();
+        tournament.printReport(args[0], args[1]);
+    }
+
+    /**
+     * Play every game, blocking until they are done.
+     */
+    public void run() {
+        long start = System.nanoTime();
+        AtomicInteger nextGame = new AtomicInteger();
+        AtomicInteger workerNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "tournament-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                // engines are made on the worker's thread, one pair per thread
+                workers.add(pool.submit(() -> playGames(nextGame)));
+            }
+            for (Future<?> worker : workers) {
+                join(worker);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    private void playGames(AtomicInteger nextGame) {
+        Engine a = engineA.get();
+        Engine b = engineB.get();
+        for (int game = nextGame.getAndIncrement(); game < games; game = nextGame.getAndIncrement()) {
+            boolean aIsBlack = game % 2 == 0;
+            playGame(game, aIsBlack ? a : b, aIsBlack ? b : a, aIsBlack ? Team.BLACK : Team.WHITE);
+        }
+    }
+
+    private void playGame(int game, Engine black, Engine white, Team teamA) {
+        GameState state = new GameState(size, KoRule.POSITIONAL);
+        state.placeHandicap(Team.WHITE, handicap);
+        int moves = 0;
+        while (!state.isGameOver()) {
+            Engine engine = state.getToMove() == Team.BLACK ? black : white;
+            int move = engine.chooseMove(state);
+            if (move != GameState.PASS && !state.getMoves().isLegal(state.getToMove(), move)) {
+                throw new IllegalStateException("Engine played illegal move " + move + " in game " + game);
+            }
+            state.makeMove(move);
+            moves++;
+        }
+        Team winner = new Scorer(state.getPosition(), rule, komi).score().getWinner();
+        outcomes[game] = winner == Team.TIE ? Outcome.TIE : winner == teamA ? Outcome.WIN : Outcome.LOSS;
+        moveCounts[game] = moves;
+    }
+
+    private static void join(Future<?> worker) {
+        try {
+            worker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tournament game failed", e.getCause());
+        }
+    }
+
+    /**
+     * Count the games engine A finished with an outcome.
+     * @param outcome The outcome.
+     * @return The number of games.
+     */
+    public int count(Outcome outcome) {
+        int count = 0;
+        for (Outcome o : outcomes) {
+            if (o == outcome) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get engine A's score, wins plus half the ties over the games played.
+     * @return The score between 0 and 1.
+     */
+    public double getScore() {
+        return (count(Outcome.WIN) + 0.5 * count(Outcome.TIE)) / games;
+    }
+
+    /**
+     * Get the 95% Wilson score interval of engine A's score, which stays inside 0 to 1 for small
+     * match counts and lopsided results.
+     * @return The lower and upper bound.
+     */
+    public double[] getConfidenceInterval() {
+        double z = 1.96;
+        double p = getScore();
+        double n = games;
+        double centre = (p + z * z / (2 * n)) / (1 + z * z / n);
+        double margin = z * Math.sqrt(p * (1 - p) / n + z * z / (4 * n * n)) / (1 + z * z / n);
+        return new double[]{centre - margin, centre + margin};
+    }
+
+    /**
+     * @return Games finished per second over the whole run.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    private void printReport(String nameA, String nameB) {
+        long totalMoves = 0;
+        for (int moves : moveCounts) {
+            totalMoves += moves;
+        }
+        double[] interval = getConfidenceInterval();
+        System.out.printf("%s: %d wins, %d losses, %d ties%n", nameA,
+                count(Outcome.WIN), count(Outcome.LOSS), count(Outcome.TIE));
+        System.out.printf("score %.1f%% (95%% CI %.1f%% - %.1f%%) against %s%n",
+                getScore() * 100, interval[0] * 100, interval[1] * 100, nameB);
+        System.out.printf("%.2f games/s, %.1f moves per game, %.1f s total%n",
+                getGamesPerSecond(), (double) totalMoves / games, elapsedNanos / 1e9);
+    }
+}
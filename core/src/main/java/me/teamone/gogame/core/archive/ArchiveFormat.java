@@ -0,0 +1,40 @@
+package me.teamone.gogame.core.archive;
+
+/**
+ * Layout of a game archive file, shared by the writer and reader. <br>
+ * A file is the magic number and version, the game records back to back, then an index of each
+ * record's offset and a trailer: the index offset, the game count and the magic number again. <br>
+ * A record is its length as a varint, then: size byte, handicap byte, scoring rule byte (the
+ * {@link me.teamone.gogame.core.helpers.ScoringRule} ordinal), komi as an 8 byte big-endian double,
+ * black name, white name and result (each a varint byte count and UTF-8), the setup stone count and
+ * stones, the move count and moves. A point is y * size + x. A setup stone is (point << 1) | team and a move is
+ * ((point + 1) << 1) | team, so a pass is just its team. Team 0 is black and 1 is white. <br>
+ * Varints are unsigned LEB128, seven bits per byte, low bits first, so a 19x19 move takes two bytes.
+ */
+final class ArchiveFormat {
+
+    static final int MAGIC = 0x474F4152; // "GOAR"
+    static final byte VERSION = 2;
+    static final int HEADER_BYTES = 5;
+    static final int TRAILER_BYTES = 16;
+    /**
+     * Largest record, so a record never needs more than one mapped segment past its start.
+     */
+    static final int MAX_RECORD_BYTES = 1 << 16;
+
+    private ArchiveFormat() {
+    }
+
+    /**
+     * Write a varint into a byte array.
+     * @return The position after it.
+     */
+    static int writeVarint(byte[] dst, int at, int value) {
+        while ((value & ~0x7F) != 0) {
+            dst[at++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        dst[at++] = (byte) value;
+        return at;
+    }
+}
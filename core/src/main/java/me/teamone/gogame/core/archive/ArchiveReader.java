@@ -0,0 +1,114 @@
+package me.teamone.gogame.core.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads an archive file by memory mapping it. <br>
+ * Nothing is read until a game is asked for, and then only that game's bytes are touched, straight
+ * from the mapping through an {@link ArchivedGame} view. The file is mapped in segments of up to a
+ * gigabyte that overlap by the largest record, so archives over 2 GB work and a record never
+ * straddles two mappings. Reads never move a buffer's position, so any number of threads can read
+ * at once, each with its own view.
+ */
+public class ArchiveReader implements Closeable {
+
+    private static final long SEGMENT_BYTES = 1L << 30;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] segments;
+    private final LongBuffer index;
+    private final int count;
+
+    /**
+     * Constructor; maps the archive.
+     * @param path The archive file.
+     * @throws IOException If the file cannot be read or is not a closed archive.
+     */
+    public ArchiveReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            if (fileSize < ArchiveFormat.HEADER_BYTES + ArchiveFormat.TRAILER_BYTES) {
+                throw new IOException(path + " is too short to be a game archive");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, ArchiveFormat.HEADER_BYTES);
+            ByteBuffer trailer = channel.map(FileChannel.MapMode.READ_ONLY,
+                    fileSize - ArchiveFormat.TRAILER_BYTES, ArchiveFormat.TRAILER_BYTES);
+            if (header.getInt(0) != ArchiveFormat.MAGIC || trailer.getInt(12) != ArchiveFormat.MAGIC) {
+                throw new IOException(path + " is not a game archive, or was not closed");
+            }
+            if (header.get(4) != ArchiveFormat.VERSION) {
+                throw new IOException(path + " is archive version " + header.get(4) + ", can read " + ArchiveFormat.VERSION);
+            }
+            long indexOffset = trailer.getLong(0);
+            this.count = trailer.getInt(8);
+            if (indexOffset + (long) count * Long.BYTES + ArchiveFormat.TRAILER_BYTES != fileSize) {
+                throw new IOException(path + " has a damaged index");
+            }
+            this.index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, (long) count * Long.BYTES).asLongBuffer();
+
+            int segmentCount = (int) ((indexOffset + SEGMENT_BYTES - 1) / SEGMENT_BYTES);
+            this.segments = new ByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long start = i * SEGMENT_BYTES;
+                long end = Math.min(indexOffset, start + SEGMENT_BYTES + ArchiveFormat.MAX_RECORD_BYTES + 5);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The number of games in the archive.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Get the file offset of a game's record.
+     * @param game The game number, from 0.
+     * @return The offset in bytes.
+     */
+    public long getOffset(int game) {
+        return index.get(game);
+    }
+
+    /**
+     * Point a view at a game. Nothing is copied, the view reads the mapping directly.
+     * @param game The game number, from 0.
+     * @param view The view to reuse.
+     * @return The view.
+     */
+    public ArchivedGame read(int game, ArchivedGame view) {
+        if (game < 0 || game >= count) {
+            throw new IndexOutOfBoundsException("Game " + game + " outside 0-" + (count - 1));
+        }
+        long offset = index.get(game);
+        int segment = (int) (offset / SEGMENT_BYTES);
+        view.point(segments[segment], (int) (offset - segment * SEGMENT_BYTES));
+        return view;
+    }
+
+    /**
+     * Get a game in a new view.
+     * @param game The game number, from 0.
+     * @return The view.
+     */
+    public ArchivedGame read(int game) {
+        return read(game, new ArchivedGame());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,176 @@
+package me.teamone.gogame.core.archive;
+
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.BitBoard;
+import me.teamone.gogame.core.model.GameState;
+import me.teamone.gogame.core.model.Scorer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Replays every game of an archive through the rules on a fork-join pool, checking the recorded
+ * results and collecting {@link ReplayStats}. Each game is counted under the scoring rule and komi
+ * stored with it, so the replayed margin is the one its result was written from. <br>
+ * The game range is split in halves down to chunks, which idle workers steal. Each pool thread
+ * keeps one worker for the whole run, with a reusable game state and scorers per board size, an
+ * archive view and its own statistics, so workers never share counters. Once the states, scorers
+ * and the view's setup scratch have grown to fit, replaying a game allocates nothing: the result is
+ * read as a margin straight from the mapped bytes. A game whose setup gives a point twice counts as stopped.
+ * The workers' statistics are merged once every chunk is done.
+ */
+public class ArchiveReplay {
+
+    /**
+     * Default games per chunk, enough that splitting costs little next to replaying.
+     */
+    public static final int DEFAULT_CHUNK = 256;
+
+    private final ArchiveReader reader;
+    private final int chunk;
+    private final ThreadLocal<Worker> workers;
+    private final Queue<Worker> allWorkers = new ConcurrentLinkedQueue<>();
+    private long elapsedNanos = 0;
+
+    /**
+     * Constructor.
+     * @param reader The archive to replay.
+     * @param chunk The most games a task replays without splitting.
+     */
+    public ArchiveReplay(ArchiveReader reader, int chunk) {
+        if (chunk < 1) {
+            throw new IllegalArgumentException("Chunk must hold at least one game, was " + chunk);
+        }
+        this.reader = reader;
+        this.chunk = chunk;
+        this.workers = ThreadLocal.withInitial(() -> {
+            Worker worker = new Worker();
+            allWorkers.add(worker);
+            return worker;
+        });
+    }
+
+    /**
+     * Replay every game. A replay object runs once.
+     * @param pool The pool to run on.
+     * @return The merged statistics.
+     */
+    public ReplayStats run(ForkJoinPool pool) {
+        if (elapsedNanos != 0) {
+            throw new IllegalStateException("Archive already replayed");
+        }
+        long start = System.nanoTime();
+        pool.invoke(new Chunk(0, reader.getCount()));
+        ReplayStats total = new ReplayStats();
+        for (Worker worker : allWorkers) {
+            total.merge(worker.stats);
+        }
+        elapsedNanos = System.nanoTime() - start;
+        return total;
+    }
+
+    /**
+     * @return Games replayed per second by the last run.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : reader.getCount() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return The number of workers the last run used.
+     */
+    public int getWorkerCount() {
+        return allWorkers.size();
+    }
+
+    /**
+     * A range of games, split in half until it is no bigger than a chunk.
+     */
+    private final class Chunk extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+
+        Chunk(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                Worker worker = workers.get();
+                for (int game = from; game < to; game++) {
+                    worker.replay(game);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Chunk(from, middle), new Chunk(middle, to));
+            }
+        }
+    }
+
+    /**
+     * One pool thread's replay state.
+     */
+    private final class Worker {
+
+        private final GameState[] states = new GameState[BitBoard.MAX_SIZE + 1];
+        /**
+         * Scorers by rule and size, each counting its size's state without komi.
+         */
+        private final Scorer[][] scorers = new Scorer[ScoringRule.values().length][BitBoard.MAX_SIZE + 1];
+        private final ArchivedGame view = new ArchivedGame();
+        private final ReplayStats stats = new ReplayStats();
+
+        void replay(int game) {
+            reader.read(game, view);
+            int size = view.getSize();
+            if (states[size] == null) {
+                states[size] = new GameState(size, KoRule.POSITIONAL);
+            }
+            GameState state = states[size];
+            if (view.playOnto(state) < view.getMoveCount()) {
+                stats.stopped++;
+            }
+            Scorer[] byRule = scorers[view.getRule().ordinal()];
+            if (byRule[size] == null) {
+                byRule[size] = new Scorer(state.getPosition(), view.getRule(), 0);
+            }
+            double margin = byRule[size].margin() - view.getKomi();
+            int black = state.getCaptures(Team.BLACK);
+            int white = state.getCaptures(Team.WHITE);
+            stats.addGame(state.getDepth(), black, white, margin, size * size);
+            checkResult(view.getResultMargin(), margin);
+
+            // take the moves back newest first, each one's captures are what the totals drop by
+            while (state.getDepth() > 0) {
+                int move = state.getMove(state.getDepth() - 1);
+                int before = black + white;
+                state.unmakeMove();
+                black = state.getCaptures(Team.BLACK);
+                white = state.getCaptures(Team.WHITE);
+                stats.addMove(move == GameState.PASS ? -1 : before - black - white);
+            }
+            state.reset();
+        }
+
+        /**
+         * Compare a recorded result with the replayed margin. Only results written as B+n, W+n
+         * and 0 can be checked.
+         */
+        private void checkResult(double recorded, double margin) {
+            if (Double.isNaN(recorded)) {
+                return;
+            }
+            stats.resultsChecked++;
+            if (recorded != margin) {
+                stats.resultsMismatched++;
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package me.teamone.gogame.core.archive;
+
+import me.teamone.gogame.core.model.GameState;
+import me.teamone.gogame.core.sgf.GameRecord;
+import me.teamone.gogame.core.sgf.SgfReader;
+import me.teamone.gogame.core.sgf.SgfWriter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line conversion between SGF collections and game archives. <br>
+ * Usage: <br>
+ * ArchiveTool pack ARCHIVE SGF... - write every game of the SGF files to a new archive, and its
+ * pattern index to ARCHIVE.patterns <br>
+ * ArchiveTool unpack ARCHIVE SGF - write every game of an archive to one SGF collection <br>
+ * ArchiveTool stats ARCHIVE [threads] [chunk] - replay every game and print statistics <br>
+ * ArchiveTool find ARCHIVE SGF [move] - list the archived moves with the same shape around them as
+ * a move of the first game in an SGF file, the last move by default
+ */
+public class ArchiveTool {
+
+    /**
+     * Pattern radius of the index pack writes, a 7x7 square.
+     */
+    public static final int PATTERN_RADIUS = 3;
+    private static final int FIND_LIMIT = 20;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 3 && args[0].equals("pack")) {
+            pack(Paths.get(args[1]), args);
+        } else if (args.length == 3 && args[0].equals("unpack")) {
+            unpack(Paths.get(args[1]), Paths.get(args[2]));
+        } else if (args.length >= 2 && args.length <= 4 && args[0].equals("stats")) {
+            int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+            int chunk = args.length > 3 ? Integer.parseInt(args[3]) : ArchiveReplay.DEFAULT_CHUNK;
+            stats(Paths.get(args[1]), threads, chunk);
+        } else if ((args.length == 3 || args.length == 4) && args[0].equals("find")) {
+            find(Paths.get(args[1]), Paths.get(args[2]), args.length > 3 ? Integer.parseInt(args[3]) : -1);
+        } else {
+            System.out.println("Usage: ArchiveTool pack ARCHIVE SGF... | unpack ARCHIVE SGF | stats ARCHIVE [threads] [chunk]"
+                    + " | find ARCHIVE SGF [move]");
+        }
+    }
+
+    private static void pack(Path archive, String[] args) throws IOException {
+        long start = System.nanoTime();
+        try (ArchiveWriter writer = new ArchiveWriter(archive);
+             PatternIndexWriter patterns = new PatternIndexWriter(patternPath(archive), PATTERN_RADIUS)) {
+            for (int i = 2; i < args.length; i++) {
+                try (SgfReader reader = new SgfReader(Files.newBufferedReader(Paths.get(args[i]), StandardCharsets.UTF_8))) {
+                    for (GameRecord game = reader.next(); game != null; game = reader.next()) {
+                        patterns.addGame(writer.getCount(), game);
+                        writer.write(game);
+                    }
+                }
+            }
+            System.out.printf("packed %d games in %.1f s%n", writer.getCount(), (System.nanoTime() - start) / 1e9);
+        }
+        System.out.println(archive + ": " + Files.size(archive) + " bytes");
+        System.out.println(patternPath(archive) + ": " + Files.size(patternPath(archive)) + " bytes");
+    }
+
+    private static Path patternPath(Path archive) {
+        return archive.resolveSibling(archive.getFileName() + ".patterns");
+    }
+
+    private static void unpack(Path archive, Path sgf) throws IOException {
+        try (ArchiveReader reader = new ArchiveReader(archive);
+             SgfWriter writer = new SgfWriter(Files.newBufferedWriter(sgf, StandardCharsets.UTF_8))) {
+            ArchivedGame view = new ArchivedGame();
+            for (int i = 0; i < reader.getCount(); i++) {
+                writer.write(reader.read(i, view).toRecord());
+            }
+            System.out.println("unpacked " + reader.getCount() + " games");
+        }
+    }
+
+    private static void stats(Path archive, int threads, int chunk) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try (ArchiveReader reader = new ArchiveReader(archive)) {
+            ArchiveReplay replay = new ArchiveReplay(reader, chunk);
+            ReplayStats stats = replay.run(pool);
+            stats.print(System.out);
+            System.out.printf("%.0f games/s on %d workers%n", replay.getGamesPerSecond(), replay.getWorkerCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void find(Path archive, Path sgf, int move) throws IOException {
+        GameRecord query;
+        try (SgfReader reader = new SgfReader(Files.newBufferedReader(sgf, StandardCharsets.UTF_8))) {
+            query = reader.next();
+        }
+        if (query == null) {
+            System.out.println(sgf + " holds no game");
+            return;
+        }
+        if (move < 0) {
+            move = query.getMoveCount() - 1;
+        }
+        if (move < 0 || move >= query.getMoveCount() || query.isPass(move)) {
+            System.out.println("Move " + move + " is not a stone of the " + query.getMoveCount() + " moves");
+            return;
+        }
+        GameState state = query.newState();
+        query.placeSetup(state);
+        for (int i = 0; i <= move; i++) {
+            if (!query.playMove(state, i)) {
+                System.out.println("Move " + i + " is not allowed, the game cannot reach move " + move);
+                return;
+            }
+        }
+
+        try (PatternIndex index = new PatternIndex(patternPath(archive));
+             ArchiveReader reader = new ArchiveReader(archive)) {
+            long start = System.nanoTime();
+            long hash = new LocalPattern(index.getRadius()).hashAt(state.getPosition(), state.getMove(state.getDepth() - 1));
+            long count = index.count(hash);
+            long[] postings = index.find(hash, FIND_LIMIT);
+            System.out.printf("%d matches in %.2f ms%n", count, (System.nanoTime() - start) / 1e6);
+            ArchivedGame view = new ArchivedGame();
+            for (long posting : postings) {
+                reader.read(PatternIndex.game(posting), view);
+                System.out.printf("  game %d move %d: %s - %s %s%n", PatternIndex.game(posting), PatternIndex.move(posting),
+                        view.getBlackName(), view.getWhiteName(), view.getResult());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package me.teamone.gogame.core.archive;
+
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.sgf.GameRecord;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Writes games to an archive file, see {@link ArchiveFormat} for the layout. <br>
+ * Records are encoded into one reused buffer and streamed out, only the offset of each is kept
+ * in memory. The index is written on close, an archive that was not closed cannot be read.
+ */
+public class ArchiveWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private final byte[] record = new byte[ArchiveFormat.MAX_RECORD_BYTES];
+    private final byte[] length = new byte[5];
+    private long[] offsets = new long[1024];
+    private int count = 0;
+    private long written;
+
+    /**
+     * Constructor; creates or replaces the archive file.
+     * @param path The file to write.
+     * @throws IOException If the file cannot be opened.
+     */
+    public ArchiveWriter(Path path) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+        out.writeInt(ArchiveFormat.MAGIC);
+        out.writeByte(ArchiveFormat.VERSION);
+        this.written = ArchiveFormat.HEADER_BYTES;
+    }
+
+    /**
+     * Add a game to the archive.
+     * @param game The game.
+     * @throws IllegalArgumentException If the game does not fit a record.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(GameRecord game) throws IOException {
+        int size = game.getSize();
+        int at = 0;
+        try {
+            record[at++] = (byte) size;
+            record[at++] = (byte) game.getHandicap();
+            record[at++] = (byte) game.getRule().ordinal();
+            long komi = Double.doubleToLongBits(game.getKomi());
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                record[at++] = (byte) (komi >>> shift);
+            }
+            at = writeString(at, game.getBlackName());
+            at = writeString(at, game.getWhiteName());
+            at = writeString(at, game.getResult());
+            at = ArchiveFormat.writeVarint(record, at, game.getSetupCount());
+            for (int i = 0; i < game.getSetupCount(); i++) {
+                int point = game.getSetupY(i) * size + game.getSetupX(i);
+                at = ArchiveFormat.writeVarint(record, at, point << 1 | team(game.getSetupTeam(i)));
+            }
+            at = ArchiveFormat.writeVarint(record, at, game.getMoveCount());
+            for (int i = 0; i < game.getMoveCount(); i++) {
+                int point = game.isPass(i) ? -1 : game.getMoveY(i) * size + game.getMoveX(i);
+                at = ArchiveFormat.writeVarint(record, at, (point + 1) << 1 | team(game.getMoveTeam(i)));
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Game is over the " + ArchiveFormat.MAX_RECORD_BYTES + " byte record limit", e);
+        }
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = written;
+        int lengthBytes = ArchiveFormat.writeVarint(length, 0, at);
+        out.write(length, 0, lengthBytes);
+        out.write(record, 0, at);
+        written += lengthBytes + at;
+    }
+
+    private int writeString(int at, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        at = ArchiveFormat.writeVarint(record, at, bytes.length);
+        System.arraycopy(bytes, 0, record, at, bytes.length);
+        return at + bytes.length;
+    }
+
+    private static int team(Team team) {
+        return team == Team.BLACK ? 0 : 1;
+    }
+
+    /**
+     * @return The number of games written so far.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Write the index and trailer and close the file.
+     */
+    @Override
+    public void close() throws IOException {
+        long indexOffset = written;
+        for (int i = 0; i < count; i++) {
+            out.writeLong(offsets[i]);
+        }
+        out.writeLong(indexOffset);
+        out.writeInt(count);
+        out.writeInt(ArchiveFormat.MAGIC);
+        out.close();
+    }
+}
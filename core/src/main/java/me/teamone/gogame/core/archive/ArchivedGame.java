@@ -0,0 +1,297 @@
+package me.teamone.gogame.core.archive;
+
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.BitBoard;
+import me.teamone.gogame.core.model.GameState;
+import me.teamone.gogame.core.sgf.GameRecord;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * View of one game in a mapped archive. <br>
+ * Reading the header fields and walking the moves decodes the mapped bytes in place. Only the
+ * names and result make objects, and only when asked for. A view is reused by pointing it at the
+ * next game (see {@link ArchiveReader#read(int, ArchivedGame)}), so a scan needs one per thread.
+ */
+public class ArchivedGame {
+
+    /**
+     * Receives the moves of a game in order.
+     */
+    public interface MoveVisitor {
+        /**
+         * @param team The team that moved.
+         * @param x The x position, -1 for a pass.
+         * @param y The y position, -1 for a pass.
+         */
+        void move(Team team, int x, int y);
+    }
+
+    private static final ScoringRule[] RULES = ScoringRule.values();
+
+    private ByteBuffer buffer;
+    private int size;
+    private int handicap;
+    private ScoringRule rule;
+    private double komi;
+    // positions of the strings, the setup and the moves in the buffer
+    private int blackName;
+    private int whiteName;
+    private int result;
+    private int setupStart;
+    private int setupCount;
+    private int movesStart;
+    private int moveCount;
+
+    /**
+     * Read cursor for varints.
+     */
+    private int cursor;
+    /**
+     * Scratch for one team's setup points while playing onto a state.
+     */
+    private int[] setupIndexes = new int[0];
+
+    /**
+     * Point the view at a record. Decodes the fixed fields and finds where each part starts.
+     */
+    void point(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        cursor = offset;
+        readVarint(); // record length, the index gives the start of every record
+        size = buffer.get(cursor++);
+        handicap = buffer.get(cursor++);
+        rule = RULES[buffer.get(cursor++)];
+        komi = buffer.getDouble(cursor);
+        cursor += Double.BYTES;
+        blackName = cursor;
+        skipString();
+        whiteName = cursor;
+        skipString();
+        result = cursor;
+        skipString();
+        setupCount = readVarint();
+        setupStart = cursor;
+        for (int i = 0; i < setupCount; i++) {
+            readVarint();
+        }
+        moveCount = readVarint();
+        movesStart = cursor;
+    }
+
+    /**
+     * Walk the setup stones. They are given to the visitor with their team, never as passes.
+     * @param visitor Receives each stone.
+     */
+    public void forEachSetupStone(MoveVisitor visitor) {
+        cursor = setupStart;
+        for (int i = 0; i < setupCount; i++) {
+            int code = readVarint();
+            int point = code >>> 1;
+            visitor.move(team(code), point % size, point / size);
+        }
+    }
+
+    /**
+     * Walk the moves in order.
+     * @param visitor Receives each move.
+     */
+    public void forEachMove(MoveVisitor visitor) {
+        cursor = movesStart;
+        for (int i = 0; i < moveCount; i++) {
+            int code = readVarint();
+            int point = (code >>> 1) - 1;
+            if (point < 0) {
+                visitor.move(team(code), -1, -1);
+            } else {
+                visitor.move(team(code), point % size, point / size);
+            }
+        }
+    }
+
+    /**
+     * Play the game onto a new state, stopping at the first move this game's rules do not allow,
+     * as {@link GameRecord#playOnto(GameState)} does. Nothing is allocated once the view's setup
+     * scratch has grown to the largest setup seen.
+     * @param state A state with no moves made, of the game's size.
+     * @return The number of moves played, -1 if a setup point is given twice. The state then holds
+     * part of the setup and needs a {@link GameState#reset()}.
+     */
+    public int playOnto(GameState state) {
+        BitBoard bitBoard = state.getPosition().getBitBoard();
+        if (bitBoard.getSize() != size) {
+            throw new IllegalArgumentException("Game is " + size + "x" + size + ", state is " + bitBoard.getSize());
+        }
+        if (setupIndexes.length < setupCount) {
+            setupIndexes = new int[setupCount];
+        }
+        for (int side = 0; side < 2; side++) {
+            Team team = side == 0 ? Team.BLACK : Team.WHITE;
+            int count = 0;
+            cursor = setupStart;
+            for (int i = 0; i < setupCount; i++) {
+                int code = readVarint();
+                if (team(code) == team) {
+                    int point = code >>> 1;
+                    setupIndexes[count++] = bitBoard.index(point % size, point / size);
+                }
+            }
+            if (count > 0) {
+                try {
+                    state.placeStones(team, setupIndexes, count);
+                } catch (IllegalArgumentException e) {
+                    return -1;
+                }
+            }
+        }
+        cursor = movesStart;
+        for (int i = 0; i < moveCount; i++) {
+            int code = readVarint();
+            int point = (code >>> 1) - 1;
+            if (team(code) != state.getToMove()) {
+                state.pass();
+            }
+            if (point < 0) {
+                state.pass();
+                continue;
+            }
+            int index = bitBoard.index(point % size, point / size);
+            if (!state.getMoves().isLegal(state.getToMove(), index)) {
+                return i;
+            }
+            state.makeMove(index);
+        }
+        return moveCount;
+    }
+
+    /**
+     * Copy the game out of the archive into a record.
+     * @return The record.
+     */
+    public GameRecord toRecord() {
+        GameRecord record = new GameRecord();
+        record.setSize(size);
+        record.setHandicap(handicap);
+        record.setRule(rule);
+        record.setKomi(komi);
+        record.setBlackName(getBlackName());
+        record.setWhiteName(getWhiteName());
+        record.setResult(getResult());
+        forEachSetupStone(record::addSetupStone);
+        forEachMove((team, x, y) -> {
+            if (x < 0) {
+                record.addPass(team);
+            } else {
+                record.addMove(team, x, y);
+            }
+        });
+        return record;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getHandicap() {
+        return handicap;
+    }
+
+    public ScoringRule getRule() {
+        return rule;
+    }
+
+    public double getKomi() {
+        return komi;
+    }
+
+    public int getSetupCount() {
+        return setupCount;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public String getBlackName() {
+        return readString(blackName);
+    }
+
+    public String getWhiteName() {
+        return readString(whiteName);
+    }
+
+    public String getResult() {
+        return readString(result);
+    }
+
+    /**
+     * Get black's lead from a result written as B+n, W+n or 0, decoded from the mapped bytes
+     * without making a String.
+     * @return The margin, negative if white won, NaN for any other result such as B+R or none.
+     */
+    public double getResultMargin() {
+        cursor = result;
+        int length = readVarint();
+        int at = cursor;
+        if (length == 1 && buffer.get(at) == '0') {
+            return 0;
+        }
+        if (length < 3 || buffer.get(at + 1) != '+') {
+            return Double.NaN;
+        }
+        byte winner = buffer.get(at);
+        if (winner != 'B' && winner != 'W') {
+            return Double.NaN;
+        }
+        double lead = 0;
+        double scale = 0;
+        for (int i = 2; i < length; i++) {
+            byte b = buffer.get(at + i);
+            if (b == '.' && scale == 0 && i > 2 && i < length - 1) {
+                scale = 1;
+            } else if (b >= '0' && b <= '9') {
+                lead = lead * 10 + (b - '0');
+                scale *= 10;
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (scale > 0) {
+            lead /= scale;
+        }
+        return winner == 'B' ? lead : -lead;
+    }
+
+    private static Team team(int code) {
+        return (code & 1) == 0 ? Team.BLACK : Team.WHITE;
+    }
+
+    private String readString(int at) {
+        cursor = at;
+        int length = readVarint();
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(cursor + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void skipString() {
+        int length = readVarint();
+        cursor += length;
+    }
+
+    private int readVarint() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get(cursor++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
@@ -0,0 +1,154 @@
+package me.teamone.gogame.core.archive;
+
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.BitBoard;
+import me.teamone.gogame.core.model.Position;
+
+import java.util.SplittableRandom;
+
+/**
+ * Hash of the square of points around a point, the same for every rotation, reflection and colour
+ * swap of the shape. <br>
+ * Each cell of the square is open, a stone, a captured point or off the board, so a shape in the
+ * corner differs from the same stones in the middle. The hash of a shape is the Zobrist hash of
+ * its cells, taken over the 8 symmetries of the square with and without the colours swapped; the
+ * smallest of the 16 is the canonical hash. The Zobrist keys come from a fixed seed, so hashes
+ * written to an index stay valid across runs.
+ */
+public final class LocalPattern {
+
+    public static final int OPEN = 0;
+    public static final int BLACK = 1;
+    public static final int WHITE = 2;
+    public static final int BLACK_CAPTURE = 3;
+    public static final int WHITE_CAPTURE = 4;
+    public static final int EDGE = 5;
+    private static final int STATES = 6;
+    /**
+     * The state each state becomes when the colours are swapped.
+     */
+    private static final int[] SWAPPED = {OPEN, WHITE, BLACK, WHITE_CAPTURE, BLACK_CAPTURE, EDGE};
+
+    private static final long SEED = 0x676F2D7061747465L;
+
+    private final int radius;
+    private final int side;
+    private final int cellCount;
+    /**
+     * keys[cell * STATES + state].
+     */
+    private final long[] keys;
+    /**
+     * symmetry[s][cell], the cell a cell moves to under symmetry s.
+     */
+    private final int[][] symmetry = new int[8][];
+    private final int[] cells;
+
+    /**
+     * Constructor.
+     * @param radius The points on each side of the centre, a radius of 2 is a 5x5 square.
+     */
+    public LocalPattern(int radius) {
+        if (radius < 1 || radius > 7) {
+            throw new IllegalArgumentException("Pattern radius must be 1-7, was " + radius);
+        }
+        this.radius = radius;
+        this.side = 2 * radius + 1;
+        this.cellCount = side * side;
+        this.keys = new long[cellCount * STATES];
+        SplittableRandom random = new SplittableRandom(SEED + radius);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+        this.cells = new int[cellCount];
+        for (int s = 0; s < 8; s++) {
+            symmetry[s] = new int[cellCount];
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dx = -radius; dx <= radius; dx++) {
+                    // bit 0 mirrors x, bit 1 mirrors y, bit 2 swaps the axes
+                    int tx = (s & 1) != 0 ? -dx : dx;
+                    int ty = (s & 2) != 0 ? -dy : dy;
+                    if ((s & 4) != 0) {
+                        int t = tx;
+                        tx = ty;
+                        ty = t;
+                    }
+                    symmetry[s][cell(dx, dy)] = cell(tx, ty);
+                }
+            }
+        }
+    }
+
+    private int cell(int dx, int dy) {
+        return (dy + radius) * side + dx + radius;
+    }
+
+    /**
+     * Get the canonical hash of the square around a point. Not thread safe, it fills a shared buffer.
+     * @param position The position.
+     * @param index The bit index of the centre.
+     * @return The hash.
+     */
+    public long hashAt(Position position, int index) {
+        BitBoard bitBoard = position.getBitBoard();
+        int size = bitBoard.getSize();
+        int cx = bitBoard.x(index);
+        int cy = bitBoard.y(index);
+        long[] black = position.stonePlane(Team.BLACK);
+        long[] white = position.stonePlane(Team.WHITE);
+        long[] blackCaptures = position.capturePlane(Team.BLACK);
+        long[] whiteCaptures = position.capturePlane(Team.WHITE);
+        for (int dy = -radius; dy <= radius; dy++) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                int x = cx + dx;
+                int y = cy + dy;
+                int state;
+                if (x < 0 || y < 0 || x >= size || y >= size) {
+                    state = EDGE;
+                } else {
+                    int i = bitBoard.index(x, y);
+                    state = BitBoard.get(black, i) ? BLACK : BitBoard.get(white, i) ? WHITE
+                            : BitBoard.get(blackCaptures, i) ? BLACK_CAPTURE
+                            : BitBoard.get(whiteCaptures, i) ? WHITE_CAPTURE : OPEN;
+                }
+                cells[cell(dx, dy)] = state;
+            }
+        }
+        return hash(cells);
+    }
+
+    /**
+     * Get the canonical hash of a square given cell by cell.
+     * @param square The states of the cells, row by row from the top left, side * side of them.
+     * @return The hash.
+     */
+    public long hash(int[] square) {
+        if (square.length != cellCount) {
+            throw new IllegalArgumentException("Pattern needs " + cellCount + " cells, was " + square.length);
+        }
+        long best = Long.MAX_VALUE;
+        for (int s = 0; s < 8; s++) {
+            int[] moved = symmetry[s];
+            long plain = 0;
+            long swapped = 0;
+            for (int c = 0; c < cellCount; c++) {
+                int base = moved[c] * STATES;
+                plain ^= keys[base + square[c]];
+                swapped ^= keys[base + SWAPPED[square[c]]];
+            }
+            best = Math.min(best, Math.min(plain, swapped));
+        }
+        return best;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * @return The width of the square, 2 * radius + 1.
+     */
+    public int getSide() {
+        return side;
+    }
+}
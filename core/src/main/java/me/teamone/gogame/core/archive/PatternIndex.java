@@ -0,0 +1,158 @@
+package me.teamone.gogame.core.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader of a pattern index, an inverted index from {@link LocalPattern} hashes to the moves of an
+ * archive whose surroundings have that shape. <br>
+ * File layout, big-endian: <br>
+ * header - magic int, version byte, radius byte, 2 spare bytes, key count long, posting count long <br>
+ * postings - one long per move, its game and its number in the game's record, grouped by hash,
+ * each group in game and move order <br>
+ * keys - hash long, first posting long, sorted by hash, then a last entry holding the posting count <br>
+ * A query binary searches the keys and reads one range of postings, so it touches a few dozen
+ * blocks of the file whatever its size. Reads are positional, so a reader can be shared between
+ * threads.
+ */
+public class PatternIndex implements Closeable {
+
+    static final int MAGIC = 0x474F5049; // "GOPI"
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    private static final int KEY_BYTES = 16;
+
+    private final FileChannel channel;
+    private final int radius;
+    private final long keyCount;
+    private final long postingCount;
+    private final long keysOffset;
+
+    /**
+     * Constructor.
+     * @param path The index file.
+     */
+    public PatternIndex(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = read(0, HEADER_BYTES);
+            if (header.getInt() != MAGIC) {
+                throw new IOException(path + " is not a pattern index");
+            }
+            byte version = header.get();
+            if (version != VERSION) {
+                throw new IOException(path + " has unsupported pattern index version " + version);
+            }
+            this.radius = header.get();
+            header.getShort();
+            this.keyCount = header.getLong();
+            this.postingCount = header.getLong();
+            this.keysOffset = HEADER_BYTES + postingCount * Long.BYTES;
+            if (channel.size() != keysOffset + (keyCount + 1) * KEY_BYTES) {
+                throw new IOException(path + " is truncated");
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Pack a game number and move number into a posting.
+     * @param game The game's number in the archive.
+     * @param move The move's number in the game's record, from 0.
+     * @return The posting.
+     */
+    public static long posting(int game, int move) {
+        return (long) game << 20 | move;
+    }
+
+    public static int game(long posting) {
+        return (int) (posting >>> 20);
+    }
+
+    public static int move(long posting) {
+        return (int) (posting & 0xFFFFF);
+    }
+
+    /**
+     * Get the moves whose surroundings have a shape.
+     * @param hash The shape's hash from a {@link LocalPattern} of this index's radius.
+     * @param limit The most postings to return.
+     * @return The postings, in game and move order.
+     */
+    public long[] find(long hash, int limit) throws IOException {
+        long key = search(hash);
+        if (key < 0) {
+            return new long[0];
+        }
+        long first = firstPosting(key);
+        int count = (int) Math.min(limit, firstPosting(key + 1) - first);
+        ByteBuffer buffer = read(HEADER_BYTES + first * Long.BYTES, count * Long.BYTES);
+        long[] postings = new long[count];
+        buffer.asLongBuffer().get(postings);
+        return postings;
+    }
+
+    /**
+     * Count the moves whose surroundings have a shape.
+     * @param hash The shape's hash.
+     * @return The number of postings.
+     */
+    public long count(long hash) throws IOException {
+        long key = search(hash);
+        return key < 0 ? 0 : firstPosting(key + 1) - firstPosting(key);
+    }
+
+    private long search(long hash) throws IOException {
+        long low = 0;
+        long high = keyCount - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            long found = read(keysOffset + middle * KEY_BYTES, Long.BYTES).getLong();
+            if (found < hash) {
+                low = middle + 1;
+            } else if (found > hash) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private long firstPosting(long key) throws IOException {
+        return read(keysOffset + key * KEY_BYTES + Long.BYTES, Long.BYTES).getLong();
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Pattern index ends before byte " + (offset + length));
+            }
+        }
+        return buffer.flip();
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    public long getPostingCount() {
+        return postingCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,251 @@
+package me.teamone.gogame.core.archive;
+
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.model.BitBoard;
+import me.teamone.gogame.core.model.GameState;
+import me.teamone.gogame.core.sgf.GameRecord;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Builds a pattern index while games are imported, see {@link PatternIndex} for the file layout. <br>
+ * Every move of every game adds the canonical hash of the shape around it, with the game and move
+ * number as its posting. Postings are gathered in a fixed buffer that is sorted and spilled to a temporary
+ * run file whenever it fills, and the runs are merged into the index on close, so an archive of
+ * any size is indexed in bounded memory.
+ */
+public class PatternIndexWriter implements Closeable {
+
+    /**
+     * Postings held before a run is spilled, 16 bytes each.
+     */
+    private static final int RUN_ENTRIES = 1 << 21;
+
+    private final Path path;
+    private final LocalPattern pattern;
+    private final long[] hashes = new long[RUN_ENTRIES];
+    private final long[] postings = new long[RUN_ENTRIES];
+    private int buffered = 0;
+    private final List<Path> runs = new ArrayList<>();
+    private final GameState[] states = new GameState[BitBoard.MAX_SIZE + 1];
+
+    /**
+     * Constructor.
+     * @param path The index file to write.
+     * @param radius The pattern radius, see {@link LocalPattern}.
+     */
+    public PatternIndexWriter(Path path, int radius) {
+        this.path = path;
+        this.pattern = new LocalPattern(radius);
+    }
+
+    /**
+     * Replay a game and index the shape around each stone it plays, as it stands once the stone is
+     * down, up to the first move this game's rules do not allow. A game whose setup gives a point
+     * twice is not indexed.
+     * @param game The game's number in the archive.
+     * @param record The game.
+     */
+    public void addGame(int game, GameRecord record) throws IOException {
+        int size = record.getSize();
+        if (states[size] == null) {
+            states[size] = new GameState(size, KoRule.POSITIONAL);
+        }
+        GameState state = states[size];
+        try {
+            record.placeSetup(state);
+        } catch (IllegalArgumentException e) {
+            state.reset();
+            return;
+        }
+        for (int move = 0; move < record.getMoveCount() && record.playMove(state, move); move++) {
+            if (!record.isPass(move)) {
+                add(pattern.hashAt(state.getPosition(), state.getMove(state.getDepth() - 1)), PatternIndex.posting(game, move));
+            }
+        }
+        state.reset();
+    }
+
+    /**
+     * Add one posting.
+     * @param hash The canonical pattern hash.
+     * @param posting The game and move, see {@link PatternIndex#posting(int, int)}.
+     */
+    public void add(long hash, long posting) throws IOException {
+        if (buffered == RUN_ENTRIES) {
+            spill();
+        }
+        hashes[buffered] = hash;
+        postings[buffered++] = posting;
+    }
+
+    private void spill() throws IOException {
+        sort(0, buffered - 1);
+        Path run = Files.createTempFile(path.toAbsolutePath().getParent(), "patterns", ".run");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), 1 << 16))) {
+            for (int i = 0; i < buffered; i++) {
+                out.writeLong(hashes[i]);
+                out.writeLong(postings[i]);
+            }
+        }
+        runs.add(run);
+        buffered = 0;
+    }
+
+    /**
+     * Quicksort of the buffer by hash, then posting.
+     */
+    private void sort(int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long pivotHash = hashes[mid];
+            long pivotPosting = postings[mid];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (compare(hashes[i], postings[i], pivotHash, pivotPosting) < 0) {
+                    i++;
+                }
+                while (compare(hashes[j], postings[j], pivotHash, pivotPosting) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            // recurse into the smaller half, loop on the larger, so the stack stays shallow
+            if (j - low < high - i) {
+                sort(low, j);
+                low = i;
+            } else {
+                sort(i, high);
+                high = j;
+            }
+        }
+    }
+
+    private static int compare(long hashA, long postingA, long hashB, long postingB) {
+        int byHash = Long.compare(hashA, hashB);
+        return byHash != 0 ? byHash : Long.compare(postingA, postingB);
+    }
+
+    private void swap(int a, int b) {
+        long hash = hashes[a];
+        hashes[a] = hashes[b];
+        hashes[b] = hash;
+        long posting = postings[a];
+        postings[a] = postings[b];
+        postings[b] = posting;
+    }
+
+    /**
+     * Merge the runs into the index file and delete them.
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffered > 0 || runs.isEmpty()) {
+            spill();
+        }
+        Path keyFile = Files.createTempFile(path.toAbsolutePath().getParent(), "patterns", ".keys");
+        PriorityQueue<Run> heads = new PriorityQueue<>((a, b) -> compare(a.hash, a.posting, b.hash, b.posting));
+        long postingCount = 0;
+        long keyCount = 0;
+        try {
+            for (Path run : runs) {
+                Run head = new Run(run);
+                if (head.next()) {
+                    heads.add(head);
+                } else {
+                    head.close();
+                }
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+                 DataOutputStream keys = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(keyFile), 1 << 16))) {
+                out.write(new byte[PatternIndex.HEADER_BYTES]); // filled in once the counts are known
+                long lastHash = 0;
+                while (!heads.isEmpty()) {
+                    Run head = heads.poll();
+                    if (keyCount == 0 || head.hash != lastHash) {
+                        keys.writeLong(head.hash);
+                        keys.writeLong(postingCount);
+                        lastHash = head.hash;
+                        keyCount++;
+                    }
+                    out.writeLong(head.posting);
+                    postingCount++;
+                    if (head.next()) {
+                        heads.add(head);
+                    } else {
+                        head.close();
+                    }
+                }
+                // the end of the last key's postings
+                keys.writeLong(0);
+                keys.writeLong(postingCount);
+            }
+            try (FileChannel index = FileChannel.open(path, StandardOpenOption.WRITE);
+                 FileChannel keys = FileChannel.open(keyFile, StandardOpenOption.READ)) {
+                long keysOffset = PatternIndex.HEADER_BYTES + postingCount * Long.BYTES;
+                long copied = 0;
+                while (copied < keys.size()) {
+                    copied += keys.transferTo(copied, keys.size() - copied, index.position(keysOffset + copied));
+                }
+                ByteBuffer header = ByteBuffer.allocate(PatternIndex.HEADER_BYTES);
+                header.putInt(PatternIndex.MAGIC).put(PatternIndex.VERSION).put((byte) pattern.getRadius())
+                        .putShort((short) 0).putLong(keyCount).putLong(postingCount).flip();
+                index.write(header, 0);
+            }
+        } finally {
+            for (Run run : heads) {
+                run.close();
+            }
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            Files.deleteIfExists(keyFile);
+        }
+    }
+
+    /**
+     * A sorted run being merged, positioned on its current entry.
+     */
+    private static final class Run implements Closeable {
+
+        private final DataInputStream in;
+        long hash;
+        long posting;
+
+        Run(Path path) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16));
+        }
+
+        boolean next() throws IOException {
+            try {
+                hash = in.readLong();
+            } catch (EOFException e) {
+                return false;
+            }
+            posting = in.readLong();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package me.teamone.gogame.core.archive;
+
+import java.io.PrintStream;
+
+/**
+ * Statistics of replayed games. Each replay worker fills its own, they are merged at the end. <br>
+ * Territory in this game is the points a team has captured, so the territory figures are the
+ * captured points at the end of each game.
+ */
+public class ReplayStats {
+
+    /**
+     * Points captured by one move, the last bucket holding this many or more.
+     */
+    public static final int CAPTURE_BUCKETS = 33;
+    /**
+     * Game length buckets of this many moves.
+     */
+    public static final int LENGTH_BUCKET_MOVES = 50;
+    public static final int LENGTH_BUCKETS = 21;
+    /**
+     * Share of the board captured by the end, in tenths.
+     */
+    public static final int SHARE_BUCKETS = 11;
+
+    long games;
+    /**
+     * Games stopped early by a move this game's rules do not allow.
+     */
+    long stopped;
+    long resultsChecked;
+    long resultsMismatched;
+    long blackWins;
+    long whiteWins;
+    long ties;
+
+    long moves;
+    long passes;
+    long capturingMoves;
+    long capturedPoints;
+    long blackCaptured;
+    long whiteCaptured;
+
+    final long[] capturesPerMove = new long[CAPTURE_BUCKETS];
+    final long[] gameLengths = new long[LENGTH_BUCKETS];
+    final long[] capturedShare = new long[SHARE_BUCKETS];
+
+    /**
+     * Add another worker's statistics to these.
+     * @param other The statistics to add.
+     */
+    public void merge(ReplayStats other) {
+        games += other.games;
+        stopped += other.stopped;
+        resultsChecked += other.resultsChecked;
+        resultsMismatched += other.resultsMismatched;
+        blackWins += other.blackWins;
+        whiteWins += other.whiteWins;
+        ties += other.ties;
+        moves += other.moves;
+        passes += other.passes;
+        capturingMoves += other.capturingMoves;
+        capturedPoints += other.capturedPoints;
+        blackCaptured += other.blackCaptured;
+        whiteCaptured += other.whiteCaptured;
+        add(capturesPerMove, other.capturesPerMove);
+        add(gameLengths, other.gameLengths);
+        add(capturedShare, other.capturedShare);
+    }
+
+    private static void add(long[] into, long[] from) {
+        for (int i = 0; i < into.length; i++) {
+            into[i] += from[i];
+        }
+    }
+
+    /**
+     * Count one move.
+     * @param captured The points it captured, -1 for a pass.
+     */
+    void addMove(int captured) {
+        moves++;
+        if (captured < 0) {
+            passes++;
+            return;
+        }
+        capturesPerMove[Math.min(captured, CAPTURE_BUCKETS - 1)]++;
+        if (captured > 0) {
+            capturingMoves++;
+            capturedPoints += captured;
+        }
+    }
+
+    /**
+     * Count one finished game.
+     * @param margin Black's lead under the game's rule and komi, which decides the winner.
+     */
+    void addGame(int length, int black, int white, double margin, int area) {
+        games++;
+        gameLengths[Math.min(length / LENGTH_BUCKET_MOVES, LENGTH_BUCKETS - 1)]++;
+        capturedShare[(black + white) * (SHARE_BUCKETS - 1) / area]++;
+        blackCaptured += black;
+        whiteCaptured += white;
+        if (margin > 0) {
+            blackWins++;
+        } else if (margin < 0) {
+            whiteWins++;
+        } else {
+            ties++;
+        }
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getStopped() {
+        return stopped;
+    }
+
+    public long getResultsMismatched() {
+        return resultsMismatched;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * Print a summary and the distributions.
+     * @param out Where to print.
+     */
+    public void print(PrintStream out) {
+        out.printf("games %d, stopped by an illegal move %d%n", games, stopped);
+        out.printf("results checked %d, mismatched %d, not checkable %d%n",
+                resultsChecked, resultsMismatched, games - resultsChecked);
+        out.printf("replayed winners: black %d, white %d, tie %d%n", blackWins, whiteWins, ties);
+        out.printf("moves %d (%.1f per game), passes %d%n", moves, ratio(moves, games), passes);
+        out.printf("capturing moves %d (%.2f%% of moves), %.3f points captured per move%n",
+                capturingMoves, 100 * ratio(capturingMoves, moves - passes), ratio(capturedPoints, moves - passes));
+        out.printf("territory per game: black %.1f, white %.1f%n", ratio(blackCaptured, games), ratio(whiteCaptured, games));
+
+        out.println("points captured per move:");
+        for (int i = 1; i < CAPTURE_BUCKETS; i++) {
+            if (capturesPerMove[i] > 0) {
+                out.printf("  %3d%s %d%n", i, i == CAPTURE_BUCKETS - 1 ? "+" : " ", capturesPerMove[i]);
+            }
+        }
+        out.println("game length:");
+        for (int i = 0; i < LENGTH_BUCKETS; i++) {
+            if (gameLengths[i] > 0) {
+                out.printf("  %4d%s %d%n", i * LENGTH_BUCKET_MOVES, i == LENGTH_BUCKETS - 1 ? "+" : "-", gameLengths[i]);
+            }
+        }
+        out.println("share of the board captured:");
+        for (int i = 0; i < SHARE_BUCKETS; i++) {
+            out.printf("  %3d%% %d%n", i * 100 / (SHARE_BUCKETS - 1), capturedShare[i]);
+        }
+    }
+
+    private static double ratio(long a, long b) {
+        return b == 0 ? 0 : (double) a / b;
+    }
+}
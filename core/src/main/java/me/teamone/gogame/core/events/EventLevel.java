@@ -0,0 +1,19 @@
+package me.teamone.gogame.core.events;
+
+/**
+ * Enum for how much a game event matters, from the most detailed to the most important.
+ */
+public enum EventLevel {
+    /**
+     * Internal detail, such as the strings a move joined.
+     */
+    DEBUG,
+    /**
+     * The course of the game, moves, passes and captures.
+     */
+    INFO,
+    /**
+     * Something went wrong, such as a move that was not allowed.
+     */
+    WARN
+}
@@ -0,0 +1,187 @@
+package me.teamone.gogame.core.events;
+
+import me.teamone.gogame.core.helpers.Team;
+
+/**
+ * Something that happened in a game, as plain fields. <br>
+ * Events hold numbers rather than text, so listeners that count or filter them never build a
+ * string; {@link #toString()} formats one only when it is printed.
+ */
+public final class GameEvent {
+
+    /**
+     * Enum for the kinds of event.
+     */
+    public enum Type {
+        /**
+         * A stone was played at x, y. Count is the points it captured.
+         */
+        MOVE_PLAYED(EventLevel.INFO),
+        /**
+         * A team passed.
+         */
+        PASSED(EventLevel.INFO),
+        /**
+         * A move captured points. Count is the number of points.
+         */
+        POINTS_CAPTURED(EventLevel.INFO),
+        /**
+         * The stone at x, y joined strings into one. Count is the strings joined, size and
+         * liberties describe the string made.
+         */
+        STRINGS_MERGED(EventLevel.DEBUG),
+        /**
+         * A move at x, y was not allowed. The message says why.
+         */
+        MOVE_REJECTED(EventLevel.WARN),
+        /**
+         * A computer player's search failed, so it passed. The message says why.
+         */
+        SEARCH_FAILED(EventLevel.WARN),
+        /**
+         * The board view could not read the point at x, y to draw it. The message says why.
+         */
+        DRAW_FAILED(EventLevel.WARN);
+
+        private final EventLevel level;
+
+        Type(EventLevel level) {
+            this.level = level;
+        }
+
+        public EventLevel getLevel() {
+            return level;
+        }
+    }
+
+    private final Type type;
+    private final int ply;
+    private final Team team;
+    private final int x;
+    private final int y;
+    private final int count;
+    private final int size;
+    private final int liberties;
+    private final String message;
+
+    private GameEvent(Type type, int ply, Team team, int x, int y, int count, int size, int liberties, String message) {
+        this.type = type;
+        this.ply = ply;
+        this.team = team;
+        this.x = x;
+        this.y = y;
+        this.count = count;
+        this.size = size;
+        this.liberties = liberties;
+        this.message = message;
+    }
+
+    public static GameEvent movePlayed(int ply, Team team, int x, int y, int captured) {
+        return new GameEvent(Type.MOVE_PLAYED, ply, team, x, y, captured, 0, 0, null);
+    }
+
+    public static GameEvent passed(int ply, Team team) {
+        return new GameEvent(Type.PASSED, ply, team, -1, -1, 0, 0, 0, null);
+    }
+
+    public static GameEvent pointsCaptured(int ply, Team team, int x, int y, int points) {
+        return new GameEvent(Type.POINTS_CAPTURED, ply, team, x, y, points, 0, 0, null);
+    }
+
+    public static GameEvent stringsMerged(int ply, Team team, int x, int y, int strings, int size, int liberties) {
+        return new GameEvent(Type.STRINGS_MERGED, ply, team, x, y, strings, size, liberties, null);
+    }
+
+    public static GameEvent moveRejected(int ply, Team team, int x, int y, String reason) {
+        return new GameEvent(Type.MOVE_REJECTED, ply, team, x, y, 0, 0, 0, reason);
+    }
+
+    public static GameEvent searchFailed(int ply, Team team, String reason) {
+        return new GameEvent(Type.SEARCH_FAILED, ply, team, -1, -1, 0, 0, 0, reason);
+    }
+
+    public static GameEvent drawFailed(int ply, int x, int y, String reason) {
+        return new GameEvent(Type.DRAW_FAILED, ply, null, x, y, 0, 0, 0, reason);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public EventLevel getLevel() {
+        return type.getLevel();
+    }
+
+    /**
+     * Get the ply the event happened on, the number of moves made before it.
+     * @return The ply.
+     */
+    public int getPly() {
+        return ply;
+    }
+
+    /**
+     * @return The team the event is about, null for a point the board could not draw.
+     */
+    public Team getTeam() {
+        return team;
+    }
+
+    /**
+     * @return The x of the point, -1 for a pass.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * @return The y of the point, -1 for a pass.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * @return The points captured, or the strings joined, depending on the type.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getLiberties() {
+        return liberties;
+    }
+
+    /**
+     * @return Why a move was rejected, a search failed or a point was not drawn, null for other types.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        String prefix = getLevel() + " " + ply + " " + (team != null ? team + " " : "");
+        switch (type) {
+            case MOVE_PLAYED:
+                return prefix + "played (" + x + ", " + y + ")" + (count > 0 ? ", captured " + count : "");
+            case PASSED:
+                return prefix + "passed";
+            case POINTS_CAPTURED:
+                return prefix + "captured " + count + " points with (" + x + ", " + y + ")";
+            case STRINGS_MERGED:
+                return prefix + "joined " + count + " strings at (" + x + ", " + y + "), size " + size
+                        + ", liberties " + liberties;
+            case SEARCH_FAILED:
+                return prefix + "search failed, passed: " + message;
+            case DRAW_FAILED:
+                return prefix + "could not draw (" + x + ", " + y + "): " + message;
+            default:
+                return prefix + "rejected (" + x + ", " + y + "): " + message;
+        }
+    }
+}
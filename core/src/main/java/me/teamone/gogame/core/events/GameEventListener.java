@@ -0,0 +1,13 @@
+package me.teamone.gogame.core.events;
+
+/**
+ * Listener for the events of a game, see {@link GameEventLog}.
+ */
+public interface GameEventListener {
+
+    /**
+     * Called on the thread making the move, once per event at or above the listener's level.
+     * @param event The event.
+     */
+    void onEvent(GameEvent event);
+}
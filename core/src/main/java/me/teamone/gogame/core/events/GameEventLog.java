@@ -0,0 +1,81 @@
+package me.teamone.gogame.core.events;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The event stream of a game. Listeners subscribe at a level and get every event at or above it.
+ * <br>
+ * Code raising an event checks {@link #isEnabled(EventLevel)} first, a read of one field, and
+ * only builds the event, and anything it needs to look up, when some listener wants it. With no
+ * listener at a level, its events cost nothing.
+ */
+public class GameEventLog {
+
+    private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    /**
+     * The lowest level any listener wants, null with no listeners.
+     */
+    private volatile EventLevel threshold = null;
+
+    /**
+     * Subscribe a listener.
+     * @param level The least important events it gets.
+     * @param listener The listener.
+     */
+    public void addListener(EventLevel level, GameEventListener listener) {
+        subscriptions.add(new Subscription(level, listener));
+        updateThreshold();
+    }
+
+    /**
+     * Unsubscribe a listener.
+     * @param listener The listener.
+     */
+    public void removeListener(GameEventListener listener) {
+        subscriptions.removeIf(subscription -> subscription.listener == listener);
+        updateThreshold();
+    }
+
+    private synchronized void updateThreshold() {
+        EventLevel lowest = null;
+        for (Subscription subscription : subscriptions) {
+            if (lowest == null || subscription.level.compareTo(lowest) < 0) {
+                lowest = subscription.level;
+            }
+        }
+        threshold = lowest;
+    }
+
+    /**
+     * Check if any listener wants events of a level. Check before building an event.
+     * @param level The level.
+     * @return True if publishing at the level reaches a listener.
+     */
+    public boolean isEnabled(EventLevel level) {
+        EventLevel lowest = threshold;
+        return lowest != null && level.compareTo(lowest) >= 0;
+    }
+
+    /**
+     * Send an event to every listener that wants its level.
+     * @param event The event.
+     */
+    public void publish(GameEvent event) {
+        for (Subscription subscription : subscriptions) {
+            if (event.getLevel().compareTo(subscription.level) >= 0) {
+                subscription.listener.onEvent(event);
+            }
+        }
+    }
+
+    private static final class Subscription {
+
+        private final EventLevel level;
+        private final GameEventListener listener;
+
+        Subscription(EventLevel level, GameEventListener listener) {
+            this.level = level;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package me.teamone.gogame.core.exceptions;
+
+/**
+ * Exception for ko violations.
+ * Call whenever a move would repeat an earlier position under the game's ko rule.
+ */
+public class KoException extends Exception {
+
+    public KoException(String m) {
+        super(m);
+    }
+}
@@ -0,0 +1,14 @@
+package me.teamone.gogame.core.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Exception for game files that cannot be read.
+ * Thrown when an SGF file breaks the format, with the line it went wrong on.
+ */
+public class SgfFormatException extends IOException {
+
+    public SgfFormatException(String m) {
+        super(m);
+    }
+}
@@ -0,0 +1,79 @@
+package me.teamone.gogame.core.gameobjects;
+
+import me.teamone.gogame.core.ai.MctsSearch;
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.GameState;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Computer player, picks moves with a Monte Carlo tree search. <br>
+ * Searches run on the player's own background thread, so asking for a move never blocks the
+ * caller (the JavaFX application thread in the client).
+ */
+public class AIPlayer extends Player {
+
+    /**
+     * Default thinking time per move, in milliseconds.
+     */
+    public static final long DEFAULT_TIME_BUDGET = 2000;
+    /**
+     * Default playout limit per move.
+     */
+    public static final int DEFAULT_PLAYOUT_BUDGET = 100_000;
+
+    private final MctsSearch search;
+    private final ExecutorService executor;
+
+    /**
+     * Constructor, makes a computer player with the default budget.
+     * @param name name str.
+     * @param team Team object of players team, is either black or white.
+     */
+    public AIPlayer(String name, Team team) {
+        this(name, team, DEFAULT_TIME_BUDGET, DEFAULT_PLAYOUT_BUDGET, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor, makes a computer player.
+     * @param name name str.
+     * @param team Team object of players team, is either black or white.
+     * @param timeBudgetMillis The longest to think about a move, in milliseconds.
+     * @param playoutBudget The most playouts to run for a move.
+     * @param threads The number of search threads, sharing one tree.
+     */
+    public AIPlayer(String name, Team team, long timeBudgetMillis, int playoutBudget, int threads) {
+        super(name, team);
+        this.search = new MctsSearch(timeBudgetMillis, playoutBudget, threads, MctsSearch.Parallelism.TREE);
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "ai-" + name);
+            // never keep the application alive just for a search
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start choosing a move. The state is copied on the calling thread, then searched in the background.
+     * @param state The current game state, must have this player to move.
+     * @param rule The game's scoring rule, which the search plays to.
+     * @param komi The game's komi.
+     * @return A future completed with the bit index of the move, or {@link GameState#PASS}.
+     */
+    public CompletableFuture<Integer> chooseMove(GameState state, ScoringRule rule, double komi) {
+        GameState copy = new GameState(state);
+        return CompletableFuture.supplyAsync(() -> search.search(copy, rule, komi), executor);
+    }
+
+    /**
+     * Stop the background threads. Any search in progress is left to finish.
+     */
+    public void shutdown() {
+        // queued behind any search in progress, so its workers are not stopped under it
+        executor.execute(search::shutdown);
+        executor.shutdown();
+    }
+}
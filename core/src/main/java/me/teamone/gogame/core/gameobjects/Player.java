@@ -61,6 +61,15 @@ public class Player {
         this.scoreStringProperty.set(String.valueOf(this.score));
     }
 
+    /**
+     * Set the score, for scores counted from the board rather than added up.
+     * @param score The new score.
+     */
+    public void setScore(int score) {
+        this.score = score;
+        this.scoreStringProperty.set(String.valueOf(this.score));
+    }
+
     /**
      * update the prisonerCount by a value
      * @param value The amount to update the score by (can be positive or negative)
@@ -1,7 +1,5 @@
 package me.teamone.gogame.core.helpers;
 
-import me.teamone.gogame.core.gameobjects.BoardSpace;
-
 /**
  * Enum for the side of the board a space is on
  */
@@ -0,0 +1,19 @@
+package me.teamone.gogame.core.helpers;
+
+/**
+ * Enum for the rule used to stop positions from repeating.
+ */
+public enum KoRule {
+    /**
+     * A move may not recreate the board as it was before the opponent's last move.
+     */
+    SIMPLE,
+    /**
+     * A move may not recreate any earlier board.
+     */
+    POSITIONAL,
+    /**
+     * A move may not recreate any earlier board with the same player to move.
+     */
+    SITUATIONAL
+}
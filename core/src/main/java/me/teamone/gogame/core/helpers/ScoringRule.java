@@ -0,0 +1,55 @@
+package me.teamone.gogame.core.helpers;
+
+/**
+ * Enum for the way the board is counted at the end of a game.
+ */
+public enum ScoringRule {
+    /**
+     * Only the points a team has captured count, this game's own rule.
+     */
+    CAPTURES("Captures"),
+    /**
+     * Japanese rules, captured points plus open points only the team borders.
+     */
+    TERRITORY("Japanese"),
+    /**
+     * Chinese rules, territory plus the team's stones on the board.
+     */
+    AREA("Chinese");
+
+    private final String sgfName;
+
+    ScoringRule(String sgfName) {
+        this.sgfName = sgfName;
+    }
+
+    /**
+     * Get the name game records give the rule, in their RU property.
+     * @return The name.
+     */
+    public String getSgfName() {
+        return sgfName;
+    }
+
+    /**
+     * Find the rule a game record names. Rule sets that count the same way share a rule: Korean
+     * counts as Japanese, AGA and New Zealand as Chinese.
+     * @param name The RU value.
+     * @return The rule, null if the name is not known.
+     */
+    public static ScoringRule fromSgfName(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "captures":
+                return CAPTURES;
+            case "japanese":
+            case "korean":
+                return TERRITORY;
+            case "chinese":
+            case "aga":
+            case "nz":
+                return AREA;
+            default:
+                return null;
+        }
+    }
+}
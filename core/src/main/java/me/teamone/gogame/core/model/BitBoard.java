@@ -0,0 +1,302 @@
+package me.teamone.gogame.core.model;
+
+/**
+ * Geometry and bit operations for a bitboard of a square board. <br>
+ * A plane is a long[] with one bit per point. Points are laid out row by row with one spare
+ * column before each row and one spare row above and below the board, so stepping one point in
+ * any direction (diagonals included) never runs off the array or wraps onto the other side of the board.
+ * The spare bits are always clear in any plane built through this class.
+ */
+public final class BitBoard {
+
+    /**
+     * Smallest supported board size.
+     */
+    public static final int MIN_SIZE = 2;
+    /**
+     * Largest supported board size.
+     */
+    public static final int MAX_SIZE = 25;
+
+    private final int size;
+    /**
+     * Width of a padded row, the board size plus the spare column.
+     */
+    private final int width;
+    private final int bits;
+    private final int words;
+    /**
+     * Plane with every on board point set.
+     */
+    private final long[] boardMask;
+
+    /**
+     * Constructor.
+     * @param size The size of the board. Example: 19 would use a 19x19 board.
+     */
+    public BitBoard(int size) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be " + MIN_SIZE + "-" + MAX_SIZE + ", was " + size);
+        }
+        this.size = size;
+        this.width = size + 1;
+        // one extra bit so the bottom right corner can step diagonally into the padding
+        this.bits = (size + 2) * width + 1;
+        this.words = (bits + 63) >>> 6;
+        this.boardMask = new long[words];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                set(boardMask, index(x, y));
+            }
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the width of a padded row. Adding or subtracting this from an index moves one row.
+     * @return The padded row width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return The number of bit indexes in a plane, including the padding.
+     */
+    public int getBitCount() {
+        return bits;
+    }
+
+    /**
+     * @return The plane with every on board point set. Do not modify.
+     */
+    public long[] getBoardMask() {
+        return boardMask;
+    }
+
+    /**
+     * Get the bit index of a point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The bit index.
+     */
+    public int index(int x, int y) {
+        return (y + 1) * width + x + 1;
+    }
+
+    public int x(int index) {
+        return index % width - 1;
+    }
+
+    public int y(int index) {
+        return index / width - 1;
+    }
+
+    /**
+     * Check if a bit index is a point on the board rather than padding.
+     * @param index The bit index.
+     * @return True if the index is on the board.
+     */
+    public boolean isOnBoard(int index) {
+        return get(boardMask, index);
+    }
+
+    /**
+     * @return A new empty plane.
+     */
+    public long[] newPlane() {
+        return new long[words];
+    }
+
+    public static boolean get(long[] plane, int index) {
+        return (plane[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long[] plane, int index) {
+        plane[index >>> 6] |= 1L << index;
+    }
+
+    public static void clear(long[] plane, int index) {
+        plane[index >>> 6] &= ~(1L << index);
+    }
+
+    public static void clearAll(long[] plane) {
+        java.util.Arrays.fill(plane, 0L);
+    }
+
+    public static void copy(long[] src, long[] dst) {
+        System.arraycopy(src, 0, dst, 0, src.length);
+    }
+
+    /**
+     * Count the set points in a plane.
+     * @param plane The plane.
+     * @return The number of set bits.
+     */
+    public static int count(long[] plane) {
+        int counter = 0;
+        for (long word : plane) {
+            counter += Long.bitCount(word);
+        }
+        return counter;
+    }
+
+    public static boolean isEmpty(long[] plane) {
+        for (long word : plane) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if two planes share any set point.
+     * @return True if the planes intersect.
+     */
+    public static boolean intersects(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the next set bit index.
+     * @param plane The plane.
+     * @param from The index to start at (inclusive).
+     * @return The next set index, -1 if there is none.
+     */
+    public static int nextSetBit(long[] plane, int from) {
+        int w = from >>> 6;
+        if (w >= plane.length) {
+            return -1;
+        }
+        long word = plane[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == plane.length) {
+                return -1;
+            }
+            word = plane[w];
+        }
+    }
+
+    /**
+     * dst = a & b. dst may be a or b.
+     */
+    public static void and(long[] a, long[] b, long[] dst) {
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = a[i] & b[i];
+        }
+    }
+
+    /**
+     * dst = a | b. dst may be a or b.
+     */
+    public static void or(long[] a, long[] b, long[] dst) {
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = a[i] | b[i];
+        }
+    }
+
+    /**
+     * dst = a & ~b. dst may be a or b.
+     */
+    public static void andNot(long[] a, long[] b, long[] dst) {
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = a[i] & ~b[i];
+        }
+    }
+
+    /**
+     * Set dst to every on board point orthogonally next to a point in src. <br>
+     * src and dst must be different arrays.
+     * @param src The source plane.
+     * @param dst The plane to write to.
+     */
+    public void neighbours(long[] src, long[] dst) {
+        int last = words - 1;
+        for (int i = 0; i <= last; i++) {
+            long w = src[i];
+            long prev = i > 0 ? src[i - 1] : 0L;
+            long next = i < last ? src[i + 1] : 0L;
+            // one point east and west
+            long n = (w << 1) | (prev >>> 63) | (w >>> 1) | (next << 63);
+            dst[i] = n;
+        }
+        // one row north and south
+        int q = width >>> 6;
+        int r = width & 63;
+        for (int i = 0; i <= last; i++) {
+            dst[i] |= shiftedWord(src, i - q, r, true) | shiftedWord(src, i + q, r, false);
+        }
+        and(dst, boardMask, dst);
+    }
+
+    /**
+     * Word i of a plane shifted by a whole number of words plus r bits.
+     */
+    private static long shiftedWord(long[] src, int i, int r, boolean up) {
+        if (up) {
+            // bits move to higher indexes
+            long hi = i >= 0 && i < src.length ? src[i] : 0L;
+            if (r == 0) {
+                return hi;
+            }
+            long lo = i - 1 >= 0 && i - 1 < src.length ? src[i - 1] : 0L;
+            return (hi << r) | (lo >>> (64 - r));
+        }
+        // bits move to lower indexes
+        long lo = i >= 0 && i < src.length ? src[i] : 0L;
+        if (r == 0) {
+            return lo;
+        }
+        long hi = i + 1 >= 0 && i + 1 < src.length ? src[i + 1] : 0L;
+        return (lo >>> r) | (hi << (64 - r));
+    }
+
+    /**
+     * Flood fill from a seed through a mask. dst ends up holding every point in mask that is
+     * connected to the seed through orthogonal steps inside mask.
+     * @param seed The plane to start from, only points also in mask are used.
+     * @param mask The points the fill may spread through.
+     * @param dst The plane to write the result to. Must not be seed, mask or scratch.
+     * @param scratch A working plane, overwritten.
+     */
+    public void floodFill(long[] seed, long[] mask, long[] dst, long[] scratch) {
+        and(seed, mask, dst);
+        while (true) {
+            neighbours(dst, scratch);
+            boolean grew = false;
+            for (int i = 0; i < words; i++) {
+                long n = (scratch[i] & mask[i]) | dst[i];
+                if (n != dst[i]) {
+                    dst[i] = n;
+                    grew = true;
+                }
+            }
+            if (!grew) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Set dst to the liberties of a group, the empty points orthogonally next to it.
+     * @param group The group plane.
+     * @param empty The plane of empty points.
+     * @param dst The plane to write to. Must not be group.
+     */
+    public void liberties(long[] group, long[] empty, long[] dst) {
+        neighbours(group, dst);
+        and(dst, empty, dst);
+    }
+}
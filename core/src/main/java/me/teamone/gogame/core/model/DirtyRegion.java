@@ -0,0 +1,110 @@
+package me.teamone.gogame.core.model;
+
+/**
+ * Tracks the points of a {@link Position} whose neighbourhood has changed. <br>
+ * Whenever a point changes, the point and its orthogonal neighbours are marked dirty. Capture checks
+ * only start fills from dirty points, and each fill stops once the region can no longer be enclosed
+ * (see {@link RegionEngine#labelEnclosable}), so a move looks at the regions next
+ * to what it touched, at most half the board each, rather than at the whole board.
+ */
+public class DirtyRegion implements PositionListener {
+
+    private final BitBoard bitBoard;
+    /**
+     * Plane of dirty points.
+     */
+    private final long[] dirty;
+    /**
+     * Dirty points in the order they were marked, used as a work list.
+     */
+    private final int[] queue;
+    private int queueSize = 0;
+
+    /**
+     * Constructor; tracks changes to a position and registers as its listener.
+     * @param position The position to track.
+     */
+    public DirtyRegion(Position position) {
+        this.bitBoard = position.getBitBoard();
+        this.dirty = bitBoard.newPlane();
+        this.queue = new int[bitBoard.getBitCount()];
+        position.addListener(this);
+    }
+
+    @Override
+    public void pointChanged(int x, int y) {
+        int index = bitBoard.index(x, y);
+        int width = bitBoard.getWidth();
+        mark(index);
+        mark(index - 1);
+        mark(index + 1);
+        mark(index - width);
+        mark(index + width);
+    }
+
+    /**
+     * Mark a point dirty. Padding indexes are ignored.
+     * @param index The bit index of the point.
+     */
+    public void mark(int index) {
+        if (bitBoard.isOnBoard(index) && !BitBoard.get(dirty, index)) {
+            BitBoard.set(dirty, index);
+            queue[queueSize++] = index;
+        }
+    }
+
+    /**
+     * @return True if there are no dirty points.
+     */
+    public boolean isEmpty() {
+        return queueSize == 0;
+    }
+
+    /**
+     * Take the most recently marked dirty point off the work list, it is no longer dirty.
+     * @return The bit index of the point, -1 if there are none.
+     */
+    public int poll() {
+        if (queueSize == 0) {
+            return -1;
+        }
+        int index = queue[--queueSize];
+        BitBoard.clear(dirty, index);
+        return index;
+    }
+
+    /**
+     * Check if a point is dirty.
+     * @param index The bit index of the point.
+     * @return True if the point is dirty.
+     */
+    public boolean isDirty(int index) {
+        return BitBoard.get(dirty, index);
+    }
+
+    /**
+     * Get the number of dirty points.
+     * @return The count.
+     */
+    public int size() {
+        return queueSize;
+    }
+
+    /**
+     * Get a dirty point by its place on the work list without removing it.
+     * @param i The place on the list, 0 to size() - 1.
+     * @return The bit index of the point.
+     */
+    public int get(int i) {
+        return queue[i];
+    }
+
+    /**
+     * Clear every dirty point.
+     */
+    public void clear() {
+        while (queueSize > 0) {
+            BitBoard.clear(dirty, queue[--queueSize]);
+        }
+    }
+}
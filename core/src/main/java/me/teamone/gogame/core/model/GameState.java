@@ -0,0 +1,407 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.helpers.SpaceState;
+import me.teamone.gogame.core.helpers.Team;
+
+/**
+ * A position together with everything needed to play on it: the side to move, the hash history,
+ * the passes in a row and the points each team has captured. <br>
+ * Moves are made and unmade in place. Every move pushes a compact delta onto an undo stack (the
+ * move, the points it captured and what they held, the pass count) and its hashes onto the history,
+ * so search can explore any number of variations without copying the board. Strings tracked by a
+ * {@link StringTracker} on the position follow along through its listener.
+ */
+public class GameState {
+
+    /**
+     * Move value for a pass.
+     */
+    public static final int PASS = -1;
+
+    private final Position position;
+    private final KoRule koRule;
+    private final HashHistory history;
+    private final MoveGenerator moves;
+    // points whose neighbourhood changed during the current move
+    private final DirtyRegion dirtyRegion;
+    // flood fill labelling for captures
+    private final RegionEngine regions;
+
+    private Team toMove;
+    private int consecutivePasses;
+    private int blackCaptures;
+    private int whiteCaptures;
+
+    /**
+     * Undo stack. Each move pushes one word per captured point, (index << 2) | what it held
+     * (0 open, 1 black, 2 white), then the move, the captured count and the passes before it.
+     */
+    private int[] undo = new int[256];
+    private int undoSize = 0;
+    private int depth = 0;
+    /**
+     * The move of every ply that can be taken back, in order.
+     */
+    private int[] moveLog = new int[64];
+    /**
+     * Stones put on the board before the first move, per team.
+     */
+    private final long[] blackSetup;
+    private final long[] whiteSetup;
+
+    /**
+     * Constructor; starts a new game on an empty board with black to move.
+     * @param size The size of the board.
+     * @param koRule The ko rule.
+     */
+    public GameState(int size, KoRule koRule) {
+        this.position = new Position(size, size);
+        this.koRule = koRule;
+        this.history = new HashHistory();
+        this.moves = new MoveGenerator(position);
+        this.dirtyRegion = new DirtyRegion(position);
+        this.regions = new RegionEngine(position);
+        this.toMove = Team.BLACK;
+        this.blackSetup = position.getBitBoard().newPlane();
+        this.whiteSetup = position.getBitBoard().newPlane();
+        this.history.push(position.getHash(), getHash());
+    }
+
+    /**
+     * Copy constructor; copies the board, history, side to move and scores of another state so it
+     * can be searched separately. The copy cannot undo moves made before it was taken.
+     * @param other The state to copy.
+     */
+    public GameState(GameState other) {
+        this.position = new Position(other.position);
+        this.koRule = other.koRule;
+        this.history = new HashHistory(other.history);
+        this.moves = new MoveGenerator(position);
+        this.dirtyRegion = new DirtyRegion(position);
+        this.regions = new RegionEngine(position);
+        this.toMove = other.toMove;
+        this.consecutivePasses = other.consecutivePasses;
+        this.blackCaptures = other.blackCaptures;
+        this.whiteCaptures = other.whiteCaptures;
+        this.blackSetup = other.blackSetup.clone();
+        this.whiteSetup = other.whiteSetup.clone();
+    }
+
+    /**
+     * Put handicap stones on the star points before the first move. They are part of the starting
+     * position, so they cannot be taken back and the history starts again from them.
+     * @param team The team given the stones.
+     * @param count The number of stones, 0-9. Boards under 7 have no star points and take none.
+     * @throws IllegalStateException If a move has already been made.
+     * @throws IllegalArgumentException If the board has fewer star points than stones asked for.
+     */
+    public void placeHandicap(Team team, int count) {
+        if (count == 0) {
+            return;
+        }
+        int[][] points = handicapPoints(position.getxSize(), count);
+        BitBoard bitBoard = position.getBitBoard();
+        int[] indexes = new int[points.length];
+        for (int i = 0; i < points.length; i++) {
+            indexes[i] = bitBoard.index(points[i][0], points[i][1]);
+        }
+        placeStones(team, indexes);
+    }
+
+    /**
+     * Put stones on open points before the first move, as a game record's setup does. They are part
+     * of the starting position, so they cannot be taken back and the history starts again from them.
+     * @param team The team of the stones.
+     * @param indexes The bit indexes of the points.
+     * @throws IllegalStateException If a move has already been made.
+     * @throws IllegalArgumentException If a point is not open.
+     */
+    public void placeStones(Team team, int[] indexes) {
+        placeStones(team, indexes, indexes.length);
+    }
+
+    /**
+     * Put the first stones of an array on open points before the first move, see {@link #placeStones(Team, int[])}.
+     * @param team The team of the stones.
+     * @param indexes The bit indexes of the points.
+     * @param count The number of points to use.
+     * @throws IllegalStateException If a move has already been made.
+     * @throws IllegalArgumentException If a point is not open. The stones before it stay until {@link #reset()}.
+     */
+    public void placeStones(Team team, int[] indexes, int count) {
+        if (depth != 0) {
+            throw new IllegalStateException("Setup stones go on the board before the first move");
+        }
+        for (int i = 0; i < count; i++) {
+            int index = indexes[i];
+            if (position.stateAt(index) != SpaceState.OPEN) {
+                throw new IllegalArgumentException("Setup point " + index + " is not open");
+            }
+            position.putStone(index, team);
+            BitBoard.set(team == Team.BLACK ? blackSetup : whiteSetup, index);
+        }
+        history.pop();
+        history.push(position.getHash(), getHash());
+    }
+
+    /**
+     * Get the most handicap stones a board takes, one per star point.
+     * @param size The board size.
+     * @return 9 for odd boards, 4 for even boards, 0 under 7 where there are no star points.
+     */
+    public static int getHandicapLimit(int size) {
+        return size < 7 ? 0 : size % 2 == 0 ? 4 : 9;
+    }
+
+    /**
+     * Get the star points handicap stones go on, in the usual order: opposite corners, the other
+     * corners, then the sides, with the centre added for odd counts over four.
+     */
+    private static int[][] handicapPoints(int size, int count) {
+        int limit = getHandicapLimit(size);
+        if (count < 0 || count > limit) {
+            throw new IllegalArgumentException("A " + size + "x" + size + " board takes 0-" + limit + " handicap stones, not " + count);
+        }
+        int low = size < 13 ? 2 : 3;
+        int high = size - 1 - low;
+        int mid = size / 2;
+        int[][] corners = {{high, low}, {low, high}, {high, high}, {low, low}};
+        int[][] sides = {{low, mid}, {high, mid}, {mid, low}, {mid, high}};
+        int[][] points = new int[count][];
+        int n = 0;
+        for (int i = 0; i < Math.min(count, 4); i++) {
+            points[n++] = corners[i];
+        }
+        if (count > 4 && count % 2 == 1) {
+            points[n++] = new int[]{mid, mid};
+        }
+        int sideCount = count - n;
+        for (int i = 0; i < sideCount; i++) {
+            points[n++] = sides[i];
+        }
+        return points;
+    }
+
+    /**
+     * Play a stone for the side to move and capture any region it encloses. No checks are made,
+     * the move must be legal (see {@link #getMoves()}).
+     * @param index The bit index of the point, or PASS.
+     * @return The number of points captured.
+     */
+    public int makeMove(int index) {
+        if (index == PASS) {
+            pass();
+            return 0;
+        }
+        Team team = toMove;
+        // anything left over was already evaluated, or was marked by an undo
+        dirtyRegion.clear();
+        position.putStone(index, team);
+
+        // label the regions the team could capture around the move, capture any it now encloses.
+        // a capture can only change the regions next to the points that changed, so only dirty points are used as seeds
+        int captured = 0;
+        regions.begin();
+        long[] capturable = regions.capturableMask(team);
+        for (int seed = dirtyRegion.poll(); seed >= 0; seed = dirtyRegion.poll()) {
+            int labelled = regions.getRegionCount();
+            int region = regions.labelEnclosable(seed, capturable, team);
+            if (region >= labelled && regions.isEnclosedBy(region, team)) {
+                captured += captureRegion(region, team);
+            }
+        }
+        if (team == Team.BLACK) {
+            blackCaptures += captured;
+        } else {
+            whiteCaptures += captured;
+        }
+        pushFrame(index, captured);
+        consecutivePasses = 0;
+        endMove();
+        return captured;
+    }
+
+    /**
+     * Pass for the side to move. Always legal, two passes in a row end the game.
+     */
+    public void pass() {
+        pushFrame(PASS, 0);
+        consecutivePasses++;
+        endMove();
+    }
+
+    /**
+     * Take back the last move or pass.
+     * @throws IllegalStateException If there is nothing to take back.
+     */
+    public void unmakeMove() {
+        if (depth == 0) {
+            throw new IllegalStateException("No move to take back");
+        }
+        consecutivePasses = undo[--undoSize];
+        int captured = undo[--undoSize];
+        int move = undo[--undoSize];
+        depth--;
+        history.pop();
+        toMove = Team.getOpposite(toMove);
+        if (move == PASS) {
+            return;
+        }
+        for (int i = 0; i < captured; i++) {
+            int entry = undo[--undoSize];
+            int held = entry & 3;
+            position.uncapturePoint(entry >>> 2, held == 0 ? null : held == 1 ? Team.BLACK : Team.WHITE);
+        }
+        position.removeStone(move);
+        if (toMove == Team.BLACK) {
+            blackCaptures -= captured;
+        } else {
+            whiteCaptures -= captured;
+        }
+    }
+
+    /**
+     * Take back every move and lift the setup stones, returning to the position the state was
+     * made with, so one state can be reused for game after game.
+     */
+    public void reset() {
+        while (depth > 0) {
+            unmakeMove();
+        }
+        for (long[] setup : new long[][]{blackSetup, whiteSetup}) {
+            for (int i = BitBoard.nextSetBit(setup, 0); i >= 0; i = BitBoard.nextSetBit(setup, i + 1)) {
+                position.removeStone(i);
+            }
+            BitBoard.clearAll(setup);
+        }
+        history.pop();
+        history.push(position.getHash(), getHash());
+    }
+
+    private int captureRegion(int region, Team team) {
+        int size = regions.getSize(region);
+        for (int i = 0; i < size; i++) {
+            int index = regions.getMember(region, i);
+            Team stone = position.stoneAt(index);
+            ensureUndoCapacity(1);
+            undo[undoSize++] = (index << 2) | (stone == null ? 0 : stone == Team.BLACK ? 1 : 2);
+            position.captureAt(index, team);
+        }
+        return size;
+    }
+
+    private void pushFrame(int move, int captured) {
+        if (depth == moveLog.length) {
+            moveLog = java.util.Arrays.copyOf(moveLog, depth * 2);
+        }
+        moveLog[depth] = move;
+        ensureUndoCapacity(3);
+        undo[undoSize++] = move;
+        undo[undoSize++] = captured;
+        undo[undoSize++] = consecutivePasses;
+        depth++;
+    }
+
+    private void endMove() {
+        toMove = Team.getOpposite(toMove);
+        history.push(position.getHash(), getHash());
+    }
+
+    private void ensureUndoCapacity(int extra) {
+        if (undoSize + extra > undo.length) {
+            undo = java.util.Arrays.copyOf(undo, undo.length * 2);
+        }
+    }
+
+    /**
+     * Get the Zobrist hash of the stones and captures on the board plus the side to move.
+     * @return The 64 bit hash.
+     */
+    public long getHash() {
+        return toMove == Team.WHITE ? position.getHash() ^ position.getZobrist().getWhiteToMoveKey() : position.getHash();
+    }
+
+    /**
+     * Check if the last move made a board the ko rule forbids. Moves never do today, as points are
+     * never opened again, but a game checks after each move and takes it back if one ever does.
+     * @return True if the last move repeated a forbidden position.
+     */
+    public boolean repeatsPosition() {
+        return history.repeatsLast(koRule);
+    }
+
+    /**
+     * Check if the game is over, both players have passed in a row.
+     * @return True if the game is over.
+     */
+    public boolean isGameOver() {
+        return consecutivePasses >= 2;
+    }
+
+    /**
+     * Get the number of points a team has captured.
+     * @param team The team.
+     * @return The capture count.
+     */
+    public int getCaptures(Team team) {
+        return team == Team.BLACK ? blackCaptures : whiteCaptures;
+    }
+
+    /**
+     * Get the number of moves and passes that can be taken back.
+     * @return The undo depth.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Get a move that can be taken back. Black made the even plies and white the odd ones.
+     * @param ply The ply, from 0 to the depth less one.
+     * @return The bit index of the move, or PASS.
+     */
+    public int getMove(int ply) {
+        if (ply < 0 || ply >= depth) {
+            throw new IndexOutOfBoundsException("Ply " + ply + " outside 0-" + (depth - 1));
+        }
+        return moveLog[ply];
+    }
+
+    /**
+     * Get the stones a team had on the board before the first move. Do not modify.
+     * @param team The team.
+     * @return The plane of setup stones.
+     */
+    public long[] getSetupStones(Team team) {
+        return team == Team.BLACK ? blackSetup : whiteSetup;
+    }
+
+    public Position getPosition() {
+        return position;
+    }
+
+    public Team getToMove() {
+        return toMove;
+    }
+
+    public int getConsecutivePasses() {
+        return consecutivePasses;
+    }
+
+    public KoRule getKoRule() {
+        return koRule;
+    }
+
+    public HashHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Get the legal move generator for this state.
+     * @return The move generator.
+     */
+    public MoveGenerator getMoves() {
+        return moves;
+    }
+}
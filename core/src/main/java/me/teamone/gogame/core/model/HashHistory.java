@@ -0,0 +1,119 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.helpers.KoRule;
+
+/**
+ * History of the positions in a game, kept as Zobrist hashes. <br>
+ * Every position is recorded twice: the board hash alone (for positional superko) and the board
+ * hash with the side to move (for situational superko). Both go in a {@link LongHashSet}, so checking
+ * a move against the whole game is O(1) however long the game runs.
+ */
+public class HashHistory {
+
+    private long[] boardHashes = new long[64];
+    private long[] gameHashes = new long[64];
+    /**
+     * Whether each entry was the first to add its hash to the sets, so popping it should remove it.
+     */
+    private boolean[] addedBoard = new boolean[64];
+    private boolean[] addedGame = new boolean[64];
+    private int size = 0;
+
+    private final LongHashSet boardSet;
+    private final LongHashSet gameSet;
+
+    public HashHistory() {
+        this.boardSet = new LongHashSet(512);
+        this.gameSet = new LongHashSet(512);
+    }
+
+    /**
+     * Copy constructor.
+     * @param other The history to copy.
+     */
+    public HashHistory(HashHistory other) {
+        this.boardHashes = other.boardHashes.clone();
+        this.gameHashes = other.gameHashes.clone();
+        this.addedBoard = other.addedBoard.clone();
+        this.addedGame = other.addedGame.clone();
+        this.size = other.size;
+        this.boardSet = new LongHashSet(other.boardSet);
+        this.gameSet = new LongHashSet(other.gameSet);
+    }
+
+    /**
+     * Record a position.
+     * @param boardHash The hash of the stones and captures on the board.
+     * @param gameHash The board hash with the side to move.
+     */
+    public void push(long boardHash, long gameHash) {
+        if (size == boardHashes.length) {
+            int capacity = size * 2;
+            boardHashes = java.util.Arrays.copyOf(boardHashes, capacity);
+            gameHashes = java.util.Arrays.copyOf(gameHashes, capacity);
+            addedBoard = java.util.Arrays.copyOf(addedBoard, capacity);
+            addedGame = java.util.Arrays.copyOf(addedGame, capacity);
+        }
+        boardHashes[size] = boardHash;
+        gameHashes[size] = gameHash;
+        addedBoard[size] = boardSet.add(boardHash);
+        addedGame[size] = gameSet.add(gameHash);
+        size++;
+    }
+
+    /**
+     * Forget the most recent position.
+     */
+    public void pop() {
+        size--;
+        if (addedBoard[size]) {
+            boardSet.remove(boardHashes[size]);
+        }
+        if (addedGame[size]) {
+            gameSet.remove(gameHashes[size]);
+        }
+    }
+
+    /**
+     * @return The number of positions recorded.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the board hash of a recorded position.
+     * @param ply The position number, 0 is the start of the game.
+     * @return The board hash.
+     */
+    public long getBoardHash(int ply) {
+        return boardHashes[ply];
+    }
+
+    /**
+     * Get the game hash of a recorded position.
+     * @param ply The position number, 0 is the start of the game.
+     * @return The board hash with the side to move.
+     */
+    public long getGameHash(int ply) {
+        return gameHashes[ply];
+    }
+
+    /**
+     * Check if the most recent position repeats one a ko rule forbids. Whether a hash was new is
+     * noted when it is pushed, so this is O(1).
+     * @param rule The ko rule.
+     * @return True if the last position pushed repeats an earlier one under the rule.
+     */
+    public boolean repeatsLast(KoRule rule) {
+        switch (rule) {
+            case SIMPLE:
+                // the board as it was before the opponent's last move
+                return size >= 3 && boardHashes[size - 3] == boardHashes[size - 1];
+            case SITUATIONAL:
+                return !addedGame[size - 1];
+            default:
+                return !addedBoard[size - 1];
+        }
+    }
+}
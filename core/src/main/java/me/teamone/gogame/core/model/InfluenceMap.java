@@ -0,0 +1,183 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+
+/**
+ * Influence of the stones on a position and the owner it suggests for every point, kept up to date
+ * as points change. <br>
+ * Each stone adds influence to the points around it, halving with each step of distance out to
+ * {@link #RADIUS}, positive for black and negative for white. An open point is owned by the side
+ * whose influence on it reaches {@link #THRESHOLD}, a stone or captured point by its team. The
+ * map listens to the position, and a changed point only moves the influence of the points in its
+ * reach, so following a move costs a few microseconds and reading the estimate costs nothing.
+ */
+public class InfluenceMap implements PositionListener {
+
+    /**
+     * The furthest a stone's influence reaches, in steps.
+     */
+    public static final int RADIUS = 4;
+    /**
+     * The influence an open point needs to be owned, that of a lone stone two steps away.
+     */
+    public static final int THRESHOLD = 1 << (RADIUS - 2);
+
+    private final Position position;
+    private final BitBoard bitBoard;
+    private final int size;
+
+    /**
+     * Influence on every point, by bit index.
+     */
+    private final int[] influence;
+    /**
+     * What each point adds to the map, 1 for a black stone, -1 for a white stone, 0 for nothing.
+     */
+    private final int[] source;
+    /**
+     * The team controlling each open point, null if nobody or the point is not open. Stones and
+     * captured points are read from the position.
+     */
+    private final Team[] openOwner;
+    private int blackOpenOwned = 0;
+    private int whiteOpenOwned = 0;
+
+    /**
+     * The points in a stone's reach, as offsets and the influence they get.
+     */
+    private final int[] kernelDx;
+    private final int[] kernelDy;
+    private final int[] kernelWeight;
+
+    /**
+     * Constructor; counts the stones already on the position and registers as its listener.
+     * @param position The position to follow.
+     */
+    public InfluenceMap(Position position) {
+        this.position = position;
+        this.bitBoard = position.getBitBoard();
+        this.size = bitBoard.getSize();
+        int bits = bitBoard.getBitCount();
+        this.influence = new int[bits];
+        this.source = new int[bits];
+        this.openOwner = new Team[bits];
+
+        int reach = 2 * RADIUS * (RADIUS + 1) + 1;
+        this.kernelDx = new int[reach];
+        this.kernelDy = new int[reach];
+        this.kernelWeight = new int[reach];
+        int k = 0;
+        for (int dy = -RADIUS; dy <= RADIUS; dy++) {
+            for (int dx = -RADIUS; dx <= RADIUS; dx++) {
+                int distance = Math.abs(dx) + Math.abs(dy);
+                if (distance <= RADIUS) {
+                    kernelDx[k] = dx;
+                    kernelDy[k] = dy;
+                    kernelWeight[k++] = 1 << (RADIUS - distance);
+                }
+            }
+        }
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                pointChanged(x, y);
+            }
+        }
+        position.addListener(this);
+    }
+
+    /**
+     * Follow a change to a point: move its influence if a stone came or went, then update the owners
+     * of the points it reaches.
+     * @param x The x position of the point.
+     * @param y The y position of the point.
+     */
+    @Override
+    public void pointChanged(int x, int y) {
+        int index = bitBoard.index(x, y);
+        Team stone = position.stoneAt(index);
+        int now = stone == Team.BLACK ? 1 : stone == Team.WHITE ? -1 : 0;
+        int change = now - source[index];
+        if (change != 0) {
+            source[index] = now;
+            for (int k = 0; k < kernelWeight.length; k++) {
+                int nx = x + kernelDx[k];
+                int ny = y + kernelDy[k];
+                if (nx >= 0 && ny >= 0 && nx < size && ny < size) {
+                    int neighbour = bitBoard.index(nx, ny);
+                    influence[neighbour] += change * kernelWeight[k];
+                    updateOwner(neighbour);
+                }
+            }
+        }
+        updateOwner(index);
+    }
+
+    private void updateOwner(int index) {
+        Team now = null;
+        if (BitBoard.get(position.emptyPlane(), index)) {
+            if (influence[index] >= THRESHOLD) {
+                now = Team.BLACK;
+            } else if (influence[index] <= -THRESHOLD) {
+                now = Team.WHITE;
+            }
+        }
+        Team was = openOwner[index];
+        if (was != now) {
+            openOwner[index] = now;
+            blackOpenOwned += (now == Team.BLACK ? 1 : 0) - (was == Team.BLACK ? 1 : 0);
+            whiteOpenOwned += (now == Team.WHITE ? 1 : 0) - (was == Team.WHITE ? 1 : 0);
+        }
+    }
+
+    /**
+     * Get the influence on a point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The influence, positive for black and negative for white.
+     */
+    public int getInfluence(int x, int y) {
+        return influence[bitBoard.index(x, y)];
+    }
+
+    /**
+     * Get the estimated owner of a point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The owner, null if neither team controls the point.
+     */
+    public Team getOwner(int x, int y) {
+        int index = bitBoard.index(x, y);
+        Team stone = position.stoneAt(index);
+        if (stone != null) {
+            return stone;
+        }
+        Team captured = position.captureOwnerAt(index);
+        return captured != null ? captured : openOwner[index];
+    }
+
+    /**
+     * Get the open points a team's influence controls.
+     * @param team The team.
+     * @return The number of points.
+     */
+    public int getOpenOwned(Team team) {
+        return team == Team.BLACK ? blackOpenOwned : whiteOpenOwned;
+    }
+
+    /**
+     * Estimate the final count under a rule: each team's captured points and the open points it
+     * controls, with its stones as well under AREA. Under CAPTURES the open points a team controls
+     * are the regions it is expected to capture, so they count as under TERRITORY.
+     * @param rule The game's scoring rule.
+     * @param komi The points given to white.
+     * @return The estimate.
+     */
+    public Score estimate(ScoringRule rule, double komi) {
+        return new Score(rule, komi,
+                BitBoard.count(position.stonePlane(Team.BLACK)), BitBoard.count(position.stonePlane(Team.WHITE)),
+                BitBoard.count(position.capturePlane(Team.BLACK)), BitBoard.count(position.capturePlane(Team.WHITE)),
+                blackOpenOwned, whiteOpenOwned);
+    }
+}
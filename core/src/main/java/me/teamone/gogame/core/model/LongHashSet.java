@@ -0,0 +1,166 @@
+package me.teamone.gogame.core.model;
+
+/**
+ * Set of primitive longs using open addressing with linear probing. <br>
+ * Stores keys in a plain long[], so adding and checking a hash never boxes or allocates
+ * (except when the table grows).
+ */
+public class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    /**
+     * 0 marks an empty slot, so the key 0 is tracked on its own.
+     */
+    private boolean hasZero = false;
+    private int size = 0;
+    private int mask;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * @param expected The number of keys expected, used to size the table.
+     */
+    public LongHashSet(int expected) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expected * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Copy constructor.
+     * @param other The set to copy.
+     */
+    public LongHashSet(LongHashSet other) {
+        this.keys = other.keys.clone();
+        this.hasZero = other.hasZero;
+        this.size = other.size;
+        this.mask = other.mask;
+    }
+
+    /**
+     * Add a key.
+     * @param key The key.
+     * @return True if the key was not already in the set.
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        size++;
+        if (size * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * Check if a key is in the set.
+     * @param key The key.
+     * @return True if the set holds the key.
+     */
+    public boolean contains(long key) {
+        if (key == 0) {
+            return hasZero;
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Remove a key.
+     * @param key The key.
+     * @return True if the key was in the set.
+     */
+    public boolean remove(long key) {
+        if (key == 0) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            size--;
+            return true;
+        }
+        int slot = slot(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == 0) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // shift later keys in the probe run back so lookups never stop early at the hole
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != 0) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove every key.
+     */
+    public void clear() {
+        java.util.Arrays.fill(keys, 0L);
+        hasZero = false;
+        size = 0;
+    }
+
+    private int slot(long key) {
+        // Zobrist keys are already random, mix anyway so other keys spread too
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] old = keys;
+        keys = new long[old.length * 2];
+        mask = keys.length - 1;
+        for (long key : old) {
+            if (key != 0) {
+                int slot = slot(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
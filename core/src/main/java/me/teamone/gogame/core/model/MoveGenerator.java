@@ -0,0 +1,66 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.helpers.Team;
+
+/**
+ * Finds the legal moves of a position without playing them. <br>
+ * Nothing here throws, allocates or changes the position, so engines and views can ask for every
+ * legal move as often as they like. Moves are bit indexes, see {@link BitBoard#x(int)} and
+ * {@link BitBoard#y(int)}. <br>
+ * A move is legal if its point is open. Filled and captured points are never open again, so a move
+ * always leaves fewer open points than any earlier board and can never break a ko rule; boards only
+ * repeat through passes, which are always legal. There is no suicide: a stone is only ever captured
+ * as part of a region the other team encloses, which happens on the other team's turn.
+ */
+public class MoveGenerator {
+
+    private final Position position;
+    private final BitBoard bitBoard;
+
+    /**
+     * Constructor.
+     * @param position The position to generate moves for.
+     */
+    public MoveGenerator(Position position) {
+        this.position = position;
+        this.bitBoard = position.getBitBoard();
+    }
+
+    /**
+     * Fill an array with every legal move.
+     * @param team The team to move.
+     * @param dst The array to fill, at least {@link BitBoard#getBitCount()} long is always enough.
+     * @return The number of moves written.
+     */
+    public int generate(Team team, int[] dst) {
+        long[] empty = position.emptyPlane();
+        int count = 0;
+        // points never become open again, so every move leaves fewer open points than any board
+        // in the history and cannot repeat one. the open plane is the whole test.
+        for (int i = BitBoard.nextSetBit(empty, 0); i >= 0; i = BitBoard.nextSetBit(empty, i + 1)) {
+            dst[count++] = i;
+        }
+        return count;
+    }
+
+    /**
+     * Fill a plane with every legal move.
+     * @param team The team to move.
+     * @param dst The plane to fill, from {@link BitBoard#newPlane()}.
+     * @return The number of moves.
+     */
+    public int generate(Team team, long[] dst) {
+        BitBoard.copy(position.emptyPlane(), dst);
+        return BitBoard.count(dst);
+    }
+
+    /**
+     * Check if a single move is legal, the same test {@link #generate(Team, int[])} makes.
+     * @param team The team to move.
+     * @param index The bit index of the point.
+     * @return True if the team may play there.
+     */
+    public boolean isLegal(Team team, int index) {
+        return bitBoard.isOnBoard(index) && BitBoard.get(position.emptyPlane(), index);
+    }
+}
@@ -0,0 +1,514 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.exceptions.NoStoneException;
+import me.teamone.gogame.core.exceptions.SpaceFilledException;
+import me.teamone.gogame.core.exceptions.isCapturedException;
+import me.teamone.gogame.core.helpers.BoardSide;
+import me.teamone.gogame.core.helpers.SpaceState;
+import me.teamone.gogame.core.helpers.Team;
+
+import java.util.ArrayList;
+
+/**
+ * Class to represent the state of the game board. <br>
+ * Pure model, holds no JavaFX nodes, so a game can be played without a toolkit.
+ * Views register a {@link PositionListener} to be told when a point changes. <br>
+ * Points are stored as bitboard planes (see {@link BitBoard}), one per stone colour and capture owner,
+ * plus a plane of empty points.
+ */
+public class Position {
+
+    private final int xSize;
+    private final int ySize;
+    private final BitBoard bitBoard;
+    /**
+     * Points holding a black stone.
+     */
+    private final long[] black;
+    /**
+     * Points holding a white stone.
+     */
+    private final long[] white;
+    /**
+     * Points captured by black.
+     */
+    private final long[] blackCaptures;
+    /**
+     * Points captured by white.
+     */
+    private final long[] whiteCaptures;
+    /**
+     * Points that are open, no stone and not captured.
+     */
+    private final long[] empty;
+
+    /**
+     * Zobrist keys and the running hash of every stone and capture on the board.
+     */
+    private final Zobrist zobrist;
+    private long hash = 0L;
+
+    final int median;
+
+    private final ArrayList<PositionListener> listeners = new ArrayList<>();
+
+    /**
+     * Constructor; creates an empty position.
+     * @param x The x size of the grid.
+     * @param y The y size of the grid. Boards are square, must match x.
+     */
+    public Position(int x, int y) {
+        if (x != y) {
+            throw new IllegalArgumentException("Board must be square, was " + x + "x" + y);
+        }
+        this.xSize = x;
+        this.ySize = y;
+        this.median = (x / 2 + (1 % 2 + x % 2) / 2) - 1;
+
+        this.bitBoard = new BitBoard(x);
+        this.black = bitBoard.newPlane();
+        this.white = bitBoard.newPlane();
+        this.blackCaptures = bitBoard.newPlane();
+        this.whiteCaptures = bitBoard.newPlane();
+        this.empty = bitBoard.newPlane();
+        BitBoard.copy(bitBoard.getBoardMask(), empty);
+        this.zobrist = Zobrist.forBoard(bitBoard);
+    }
+
+    /**
+     * Copy constructor; copies the points and hash of another position. Listeners are not copied.
+     * @param other The position to copy.
+     */
+    public Position(Position other) {
+        this.xSize = other.xSize;
+        this.ySize = other.ySize;
+        this.median = other.median;
+        this.bitBoard = other.bitBoard;
+        this.black = other.black.clone();
+        this.white = other.white.clone();
+        this.blackCaptures = other.blackCaptures.clone();
+        this.whiteCaptures = other.whiteCaptures.clone();
+        this.empty = other.empty.clone();
+        this.zobrist = other.zobrist;
+        this.hash = other.hash;
+    }
+
+    /**
+     * Place a stone on the grid.
+     * @param team The team of the stone to place.
+     * @param gridPos The [x, y] point to place the stone on.
+     * @throws SpaceFilledException Will throw if the point is already filled.
+     * @throws isCapturedException Will throw if the point is already captured.
+     */
+    public void placeStone(Team team, int[] gridPos) throws SpaceFilledException, isCapturedException {
+        checkOpen(gridPos[0], gridPos[1]);
+        putStone(bitBoard.index(gridPos[0], gridPos[1]), team);
+    }
+
+    /**
+     * Check that a stone could be placed on a point.
+     * @param xPos The x position.
+     * @param yPos The y position.
+     * @throws SpaceFilledException Will throw if the point is already filled.
+     * @throws isCapturedException Will throw if the point is already captured.
+     */
+    public void checkOpen(int xPos, int yPos) throws SpaceFilledException, isCapturedException {
+        int index = bitBoard.index(xPos, yPos);
+        if (BitBoard.get(blackCaptures, index) || BitBoard.get(whiteCaptures, index)) {
+            throw new isCapturedException("Space at " + xPos + "x" + yPos + " is already captured!");
+        }
+        if (!BitBoard.get(empty, index)) {
+            throw new SpaceFilledException("Space at " + xPos + "x" + yPos + " is already filled by a " +
+                    stoneAt(index).toString() + " space!");
+        }
+    }
+
+    /**
+     * Place a stone on an open point without any checks. Used by search, which only plays legal moves.
+     * @param index The bit index of the open point.
+     * @param team The team of the stone.
+     */
+    public void putStone(int index, Team team) {
+        BitBoard.set(stonePlane(team), index);
+        BitBoard.clear(empty, index);
+        hash ^= zobrist.stoneKey(team, index);
+        firePointChanged(bitBoard.x(index), bitBoard.y(index));
+    }
+
+    /**
+     * Take a stone off a point, leaving it open. Used to undo a move.
+     * @param index The bit index of the stone.
+     */
+    public void removeStone(int index) {
+        Team stone = stoneAt(index);
+        if (stone != null) {
+            hash ^= zobrist.stoneKey(stone, index);
+            BitBoard.clear(stonePlane(stone), index);
+        }
+        BitBoard.set(empty, index);
+        firePointChanged(bitBoard.x(index), bitBoard.y(index));
+    }
+
+    /**
+     * Capture a point. Removes any stone on it.
+     * @param x The x position.
+     * @param y The y position.
+     * @param team The team to set the capture to.
+     */
+    public void capturePoint(int x, int y, Team team) {
+        captureAt(bitBoard.index(x, y), team);
+    }
+
+    /**
+     * Capture a point by bit index. Removes any stone on it.
+     * @param index The bit index.
+     * @param team The team to set the capture to.
+     */
+    public void captureAt(int index, Team team) {
+        Team stone = stoneAt(index);
+        if (stone != null) {
+            hash ^= zobrist.stoneKey(stone, index);
+        }
+        Team owner = captureOwnerAt(index);
+        if (owner != null) {
+            hash ^= zobrist.captureKey(owner, index);
+            BitBoard.clear(capturePlane(owner), index);
+        }
+        hash ^= zobrist.captureKey(team, index);
+        BitBoard.clear(black, index);
+        BitBoard.clear(white, index);
+        BitBoard.clear(empty, index);
+        BitBoard.set(capturePlane(team), index);
+        firePointChanged(bitBoard.x(index), bitBoard.y(index));
+    }
+
+    /**
+     * Undo a capture, putting back the stone that was on the point or leaving it open.
+     * @param index The bit index of the captured point.
+     * @param stone The team of the stone the point held before, null if it was open.
+     */
+    public void uncapturePoint(int index, Team stone) {
+        Team owner = captureOwnerAt(index);
+        if (owner != null) {
+            hash ^= zobrist.captureKey(owner, index);
+            BitBoard.clear(capturePlane(owner), index);
+        }
+        if (stone == null) {
+            BitBoard.set(empty, index);
+        } else {
+            hash ^= zobrist.stoneKey(stone, index);
+            BitBoard.set(stonePlane(stone), index);
+        }
+        firePointChanged(bitBoard.x(index), bitBoard.y(index));
+    }
+
+    /**
+     * Get the state of a point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The state of the point.
+     * @throws IndexOutOfBoundsException Thrown when trying to get a point that is not within board bounds.
+     */
+    public SpaceState getState(int x, int y) throws IndexOutOfBoundsException {
+        return stateAt(checkedIndex(x, y));
+    }
+
+    /**
+     * Get the team of the stone on a point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The team of the stone.
+     * @throws NoStoneException Thrown if the point has no stone.
+     */
+    public Team getStoneTeam(int x, int y) throws NoStoneException {
+        Team team = stoneAt(checkedIndex(x, y));
+        if (team == null) {
+            throw new NoStoneException("Stone missing from grid position: " + x + " " + y);
+        }
+        return team;
+    }
+
+    public boolean hasStone(int x, int y) {
+        return stoneAt(checkedIndex(x, y)) != null;
+    }
+
+    /**
+     * Get the owner of the point if captured.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The team who captured the point, null if it is not captured.
+     */
+    public Team getCaptureOwner(int x, int y) {
+        return captureOwnerAt(checkedIndex(x, y));
+    }
+
+    /**
+     * Get the bitboard geometry of this position.
+     * @return The BitBoard.
+     */
+    public BitBoard getBitBoard() {
+        return bitBoard;
+    }
+
+    /**
+     * Get the Zobrist hash of the stones and captures on the board. Does not include the side to move.
+     * @return The 64 bit hash.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Get the Zobrist keys used by this position.
+     * @return The key table.
+     */
+    public Zobrist getZobrist() {
+        return zobrist;
+    }
+
+    /**
+     * Get the plane of a team's stones. Do not modify.
+     * @param team The team.
+     * @return The stone plane.
+     */
+    public long[] stonePlane(Team team) {
+        return team == Team.BLACK ? black : white;
+    }
+
+    /**
+     * Get the plane of points captured by a team. Do not modify.
+     * @param team The team.
+     * @return The capture plane.
+     */
+    public long[] capturePlane(Team team) {
+        return team == Team.BLACK ? blackCaptures : whiteCaptures;
+    }
+
+    /**
+     * Get the plane of open points. Do not modify.
+     * @return The empty plane.
+     */
+    public long[] emptyPlane() {
+        return empty;
+    }
+
+    /**
+     * Get the state of a point by bit index.
+     * @param index The bit index.
+     * @return The state of the point.
+     */
+    public SpaceState stateAt(int index) {
+        if (BitBoard.get(empty, index)) {
+            return SpaceState.OPEN;
+        }
+        if (BitBoard.get(black, index) || BitBoard.get(white, index)) {
+            return SpaceState.FILLED;
+        }
+        return SpaceState.CAPTURED;
+    }
+
+    /**
+     * Get the team of the stone on a point by bit index.
+     * @param index The bit index.
+     * @return The stone's team, null if there is no stone.
+     */
+    public Team stoneAt(int index) {
+        if (BitBoard.get(black, index)) {
+            return Team.BLACK;
+        }
+        if (BitBoard.get(white, index)) {
+            return Team.WHITE;
+        }
+        return null;
+    }
+
+    /**
+     * Get the capture owner of a point by bit index.
+     * @param index The bit index.
+     * @return The team who captured the point, null if it is not captured.
+     */
+    public Team captureOwnerAt(int index) {
+        if (BitBoard.get(blackCaptures, index)) {
+            return Team.BLACK;
+        }
+        if (BitBoard.get(whiteCaptures, index)) {
+            return Team.WHITE;
+        }
+        return null;
+    }
+
+    private int checkedIndex(int x, int y) {
+        if (!isOnBoard(x, y)) {
+            throw new IndexOutOfBoundsException("Point " + x + ", " + y + " is not on the board");
+        }
+        return bitBoard.index(x, y);
+    }
+
+    /**
+     * Get the side of the board a column is on.
+     * @param x The x position.
+     * @return The side of the board.
+     */
+    public BoardSide getSide(int x) {
+        if (x < median) {
+            return BoardSide.LEFT;
+        }
+        if (x > median) {
+            return BoardSide.RIGHT;
+        }
+        return BoardSide.MIDDLE;
+    }
+
+    /**
+     * Checks if a specific point is on the board based on given x and y pos
+     * @param x the x position
+     * @param y the y position
+     * @return true if the point is on the board, false if it is not
+     */
+    public boolean isOnBoard(int x, int y) {
+        return x >= 0 && x < xSize && y >= 0 && y < ySize;
+    }
+
+    public int getxSize() {
+        return this.xSize;
+    }
+
+    public int getySize() {
+        return ySize;
+    }
+
+    /**
+     * Get all adjacent points horizontally, vertically, and diagonally to the requested point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return An array of the (up to) 8 [x, y] points surrounding the requested point.
+     */
+    public ArrayList<int[]> getAdjacentPoints(int x, int y) {
+        ArrayList<int[]> adjacentPoints = new ArrayList<>();
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                if (!(i == 0 && j == 0) && isOnBoard(x + i, y + j)) {
+                    adjacentPoints.add(new int[]{x + i, y + j});
+                }
+            }
+        }
+        return adjacentPoints;
+    }
+
+    /**
+     * Counts the free liberties around a point. IGNORES POINTS THAT DO NOT MATCH TEAM
+     * @param x The x position.
+     * @param y The y position.
+     * @param team team to match.
+     * @return a count of the liberties.
+     */
+    public int libertiesFree(int x, int y, Team team) {
+        long[] enemy = stonePlane(Team.getOpposite(team));
+        int index = checkedIndex(x, y);
+        int w = bitBoard.getWidth();
+        // the padding is never set in any plane, so neighbours off the board are never counted
+        return bit(empty, index - 1) + bit(enemy, index - 1) + bit(empty, index + 1) + bit(enemy, index + 1)
+                + bit(empty, index - w) + bit(enemy, index - w) + bit(empty, index + w) + bit(enemy, index + w);
+    }
+
+    /**
+     * Checks the free liberties around a point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return a count of the liberties
+     */
+    public int libertiesFree(int x, int y) {
+        int index = checkedIndex(x, y);
+        int w = bitBoard.getWidth();
+        return bit(empty, index - 1) + bit(empty, index + 1) + bit(empty, index - w) + bit(empty, index + w);
+    }
+
+    /**
+     * Checks if a points filled liberties all match the same team. Use in combination with
+     * libertiesFree(), this method skips over empty points.
+     * @param x The x position.
+     * @param y The y position.
+     * @param team The Team to match to.
+     * @return true if all liberties are of the same team, false if not.
+     */
+    public boolean surroundedLibertiesMatchTeam(int x, int y, Team team) {
+        Team opposite = Team.getOpposite(team);
+        long[] enemyStones = stonePlane(opposite);
+        long[] enemyCaptures = capturePlane(opposite);
+        int index = checkedIndex(x, y);
+        int w = bitBoard.getWidth();
+        return bit(enemyStones, index - 1) + bit(enemyStones, index + 1) + bit(enemyStones, index - w) + bit(enemyStones, index + w)
+                + bit(enemyCaptures, index - 1) + bit(enemyCaptures, index + 1) + bit(enemyCaptures, index - w) + bit(enemyCaptures, index + w) == 0;
+    }
+
+    /**
+     * Get the count of free diagonals adjacent to a point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The count of empty points (1-4).
+     */
+    public int diagonalsFree(int x, int y) {
+        int index = checkedIndex(x, y);
+        int w = bitBoard.getWidth();
+        return bit(empty, index - w - 1) + bit(empty, index - w + 1) + bit(empty, index + w - 1) + bit(empty, index + w + 1);
+    }
+
+    /**
+     * Get the string holding the stone on a point, the stones of the same team connected to it
+     * horizontally or vertically.
+     * @param x The x position.
+     * @param y The y position.
+     * @param dst The plane to write the string to.
+     * @param scratch A working plane, overwritten.
+     * @throws NoStoneException Thrown if the point has no stone.
+     */
+    public void getString(int x, int y, long[] dst, long[] scratch) throws NoStoneException {
+        long[] stones = stonePlane(getStoneTeam(x, y));
+        BitBoard.clearAll(scratch);
+        BitBoard.set(scratch, bitBoard.index(x, y));
+        long[] seed = bitBoard.newPlane();
+        BitBoard.copy(scratch, seed);
+        bitBoard.floodFill(seed, stones, dst, scratch);
+    }
+
+    /**
+     * Count the liberties of the string holding the stone on a point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The number of empty points next to the string.
+     * @throws NoStoneException Thrown if the point has no stone.
+     */
+    public int stringLiberties(int x, int y) throws NoStoneException {
+        long[] string = bitBoard.newPlane();
+        long[] scratch = bitBoard.newPlane();
+        getString(x, y, string, scratch);
+        bitBoard.liberties(string, empty, scratch);
+        return BitBoard.count(scratch);
+    }
+
+    private static int bit(long[] plane, int index) {
+        return (int) (plane[index >>> 6] >>> index) & 1;
+    }
+
+    /**
+     * Register a listener to be told when points change.
+     * @param listener The listener to add.
+     */
+    public void addListener(PositionListener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener.
+     * @param listener The listener to remove.
+     */
+    public void removeListener(PositionListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    private void firePointChanged(int x, int y) {
+        for (PositionListener listener : listeners) {
+            listener.pointChanged(x, y);
+        }
+    }
+}
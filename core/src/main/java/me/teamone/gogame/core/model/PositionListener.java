@@ -0,0 +1,14 @@
+package me.teamone.gogame.core.model;
+
+/**
+ * Listener for changes to a {@link Position}. Used by views to redraw points.
+ */
+public interface PositionListener {
+
+    /**
+     * Called after the state of a point has changed.
+     * @param x The x position of the point.
+     * @param y The y position of the point.
+     */
+    void pointChanged(int x, int y);
+}
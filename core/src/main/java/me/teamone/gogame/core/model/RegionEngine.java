@@ -0,0 +1,295 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.helpers.Team;
+
+/**
+ * Flood fill region engine. <br>
+ * Labels connected regions of points inside a mask (for example the empty points, or every point a
+ * team could capture) and records which colours border each region. Capture, territory and scoring
+ * all use this one engine. <br>
+ * All buffers are allocated once, labelling a region allocates nothing. Labels are only valid until
+ * the next call to {@link #begin()}. <br>
+ * Capture checks label with {@link #labelEnclosable(int, long[], Team)}, which stops as soon as a
+ * region reaches half the board or touches the other team, so a move on an open board looks at a
+ * bounded neighbourhood rather than flooding the whole empty area.
+ */
+public class RegionEngine {
+
+    /**
+     * Border flag, the region touches a black stone or a point captured by black.
+     */
+    public static final int BORDER_BLACK = 1;
+    /**
+     * Border flag, the region touches a white stone or a point captured by white.
+     */
+    public static final int BORDER_WHITE = 2;
+    /**
+     * Border flag, the region touches the edge of the board.
+     */
+    public static final int BORDER_EDGE = 4;
+    /**
+     * Border flag, the fill stopped before the region's end because it could no longer be enclosed.
+     * The region's size and members are only the points reached.
+     */
+    public static final int BORDER_OPEN = 8;
+
+    private final Position position;
+    private final BitBoard bitBoard;
+    private final int width;
+
+    /**
+     * The run a point was last labelled in. A point is labelled if its stamp matches the current run,
+     * so the label array never needs clearing.
+     */
+    private final int[] stamp;
+    private int run = 0;
+    private final int[] label;
+
+    /**
+     * Members of every region, stored back to back in fill order.
+     */
+    private final int[] members;
+    private int memberCount = 0;
+    private final int[] regionStart;
+    private final int[] regionSize;
+    private final int[] regionBorder;
+    private int regionCount = 0;
+
+    private final long[] mask;
+
+    /**
+     * A point treated as holding a stone for this run, used to look at a move before it is played.
+     */
+    private int assumedStone = -1;
+    private int assumedBorder = 0;
+
+    /**
+     * Constructor.
+     * @param position The position to label.
+     */
+    public RegionEngine(Position position) {
+        this.position = position;
+        this.bitBoard = position.getBitBoard();
+        this.width = bitBoard.getWidth();
+        int bits = bitBoard.getBitCount();
+        this.stamp = new int[bits];
+        this.label = new int[bits];
+        this.members = new int[bits];
+        this.regionStart = new int[bits];
+        this.regionSize = new int[bits];
+        this.regionBorder = new int[bits];
+        this.mask = bitBoard.newPlane();
+    }
+
+    /**
+     * Start a new labelling run, forgetting every region found so far.
+     */
+    public void begin() {
+        run++;
+        if (run == 0) { // wrapped, stamps from old runs could collide
+            java.util.Arrays.fill(stamp, 0);
+            run = 1;
+        }
+        memberCount = 0;
+        regionCount = 0;
+        assumedStone = -1;
+    }
+
+    /**
+     * Treat an open point as if it held a stone until the next {@link #begin()}. Lets a move be
+     * evaluated without changing the position.
+     * @param index The bit index of the point.
+     * @param team The team of the assumed stone.
+     */
+    public void assumeStone(int index, Team team) {
+        this.assumedStone = index;
+        this.assumedBorder = team == Team.BLACK ? BORDER_BLACK : BORDER_WHITE;
+    }
+
+    /**
+     * Label every region of a mask. Starts a new run.
+     * @param regionMask The points regions may contain.
+     * @return The number of regions found.
+     */
+    public int labelAll(long[] regionMask) {
+        begin();
+        for (int i = BitBoard.nextSetBit(regionMask, 0); i >= 0; i = BitBoard.nextSetBit(regionMask, i + 1)) {
+            if (stamp[i] != run) {
+                fill(i, regionMask, 0, Integer.MAX_VALUE);
+            }
+        }
+        return regionCount;
+    }
+
+    /**
+     * Label the region of a mask holding a point, if it is not already labelled in this run.
+     * @param index The bit index of the point.
+     * @param regionMask The points the region may contain.
+     * @return The region id, -1 if the point is not in the mask.
+     */
+    public int labelFrom(int index, long[] regionMask) {
+        if (index == assumedStone || !BitBoard.get(regionMask, index)) {
+            return -1;
+        }
+        if (stamp[index] == run) {
+            return label[index];
+        }
+        return fill(index, regionMask, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Label the region of a mask holding a point only as far as needed to tell if a team encloses
+     * it. The fill stops once the region is half the board or touches the other team, and marks it
+     * {@link #BORDER_OPEN}. Do not mix with {@link #labelFrom(int, long[])} in one run.
+     * @param index The bit index of the point.
+     * @param regionMask The points the region may contain.
+     * @param team The enclosing team.
+     * @return The region id, -1 if the point is not in the mask.
+     */
+    public int labelEnclosable(int index, long[] regionMask, Team team) {
+        if (index == assumedStone || !BitBoard.get(regionMask, index)) {
+            return -1;
+        }
+        if (stamp[index] == run) {
+            return label[index];
+        }
+        int area = bitBoard.getSize() * bitBoard.getSize();
+        return fill(index, regionMask, team == Team.BLACK ? BORDER_WHITE : BORDER_BLACK, (area + 1) / 2);
+    }
+
+    /**
+     * Linear flood fill, every point is visited once and its four neighbours checked once. Stops early,
+     * marking the region open, when a border in stopBorder is found, the region reaches limit points,
+     * or it runs into a region an earlier fill stopped in.
+     */
+    private int fill(int seed, long[] regionMask, int stopBorder, int limit) {
+        int region = regionCount++;
+        int start = memberCount;
+        int border = 0;
+        long[] black = position.stonePlane(Team.BLACK);
+        long[] white = position.stonePlane(Team.WHITE);
+        long[] blackCaptures = position.capturePlane(Team.BLACK);
+        long[] whiteCaptures = position.capturePlane(Team.WHITE);
+
+        stamp[seed] = run;
+        label[seed] = region;
+        members[memberCount++] = seed;
+        // the member list doubles as the fill queue
+        fill:
+        for (int head = start; head < memberCount; head++) {
+            int index = members[head];
+            for (int n = 0; n < 4; n++) {
+                int neighbour = index + (n == 0 ? -1 : n == 1 ? 1 : n == 2 ? -width : width);
+                if (neighbour == assumedStone) {
+                    border |= assumedBorder;
+                } else if (BitBoard.get(regionMask, neighbour)) {
+                    if (stamp[neighbour] != run) {
+                        stamp[neighbour] = run;
+                        label[neighbour] = region;
+                        members[memberCount++] = neighbour;
+                    } else if (label[neighbour] != region) {
+                        // a finished region never touches another, so this one was stopped early
+                        border |= BORDER_OPEN;
+                    }
+                } else if (!bitBoard.isOnBoard(neighbour)) {
+                    border |= BORDER_EDGE;
+                } else if (BitBoard.get(black, neighbour) || BitBoard.get(blackCaptures, neighbour)) {
+                    border |= BORDER_BLACK;
+                } else if (BitBoard.get(white, neighbour) || BitBoard.get(whiteCaptures, neighbour)) {
+                    border |= BORDER_WHITE;
+                }
+                if ((border & stopBorder) != 0 || memberCount - start >= limit) {
+                    border |= BORDER_OPEN;
+                }
+                if ((border & BORDER_OPEN) != 0) {
+                    break fill;
+                }
+            }
+        }
+        regionStart[region] = start;
+        regionSize[region] = memberCount - start;
+        regionBorder[region] = border;
+        return region;
+    }
+
+    /**
+     * Get the mask of points a team could capture, the open points and the other team's stones.
+     * The plane is reused by the next call.
+     * @param team The capturing team.
+     * @return The capturable plane.
+     */
+    public long[] capturableMask(Team team) {
+        BitBoard.or(position.emptyPlane(), position.stonePlane(Team.getOpposite(team)), mask);
+        return mask;
+    }
+
+    /**
+     * Check if a region is enclosed by a team: its only coloured border is that team, and it is
+     * smaller than half the board, so a wall across an open board does not enclose either side.
+     * @param region The region id.
+     * @param team The enclosing team.
+     * @return True if the team encloses the region.
+     */
+    public boolean isEnclosedBy(int region, Team team) {
+        int border = regionBorder[region];
+        int own = team == Team.BLACK ? BORDER_BLACK : BORDER_WHITE;
+        int other = team == Team.BLACK ? BORDER_WHITE : BORDER_BLACK;
+        if ((border & BORDER_OPEN) != 0) {
+            return false;
+        }
+        int area = bitBoard.getSize() * bitBoard.getSize();
+        return (border & own) != 0 && (border & other) == 0 && regionSize[region] * 2 < area;
+    }
+
+    /**
+     * Get the team bordering a region, if only one team does.
+     * @param region The region id.
+     * @return The bordering team, null if both or neither team border it.
+     */
+    public Team getOwner(int region) {
+        int colours = regionBorder[region] & (BORDER_BLACK | BORDER_WHITE);
+        if (colours == BORDER_BLACK) {
+            return Team.BLACK;
+        }
+        if (colours == BORDER_WHITE) {
+            return Team.WHITE;
+        }
+        return null;
+    }
+
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    /**
+     * Get the region a point was labelled with in this run.
+     * @param index The bit index of the point.
+     * @return The region id, -1 if the point is not labelled.
+     */
+    public int getLabel(int index) {
+        return stamp[index] == run ? label[index] : -1;
+    }
+
+    public int getSize(int region) {
+        return regionSize[region];
+    }
+
+    /**
+     * Get the border flags of a region.
+     * @param region The region id.
+     * @return A combination of BORDER_BLACK, BORDER_WHITE, BORDER_EDGE and BORDER_OPEN.
+     */
+    public int getBorder(int region) {
+        return regionBorder[region];
+    }
+
+    /**
+     * Get a member of a region.
+     * @param region The region id.
+     * @param i The member number, 0 to getSize(region) - 1.
+     * @return The bit index of the member.
+     */
+    public int getMember(int region, int i) {
+        return members[regionStart[region] + i];
+    }
+}
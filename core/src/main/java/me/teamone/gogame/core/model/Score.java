@@ -0,0 +1,118 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+
+/**
+ * The count of a position under a scoring rule, made by a {@link Scorer}. <br>
+ * Keeps each team's stones, captured points and territory, so a view can show how the points were
+ * made as well as the total.
+ */
+public final class Score {
+
+    private final ScoringRule rule;
+    private final double komi;
+    private final int blackStones;
+    private final int whiteStones;
+    private final int blackCaptured;
+    private final int whiteCaptured;
+    private final int blackTerritory;
+    private final int whiteTerritory;
+
+    Score(ScoringRule rule, double komi, int blackStones, int whiteStones, int blackCaptured, int whiteCaptured,
+          int blackTerritory, int whiteTerritory) {
+        this.rule = rule;
+        this.komi = komi;
+        this.blackStones = blackStones;
+        this.whiteStones = whiteStones;
+        this.blackCaptured = blackCaptured;
+        this.whiteCaptured = whiteCaptured;
+        this.blackTerritory = blackTerritory;
+        this.whiteTerritory = whiteTerritory;
+    }
+
+    /**
+     * Get a team's points under the rule, without komi. Stones count only under AREA. A count of
+     * the board under CAPTURES has no territory, an estimate adds the open points a team controls.
+     * @param team The team.
+     * @return The points.
+     */
+    public int getPoints(Team team) {
+        if (rule == ScoringRule.AREA) {
+            return getStones(team) + getCaptured(team) + getTerritory(team);
+        }
+        return getCaptured(team) + getTerritory(team);
+    }
+
+    /**
+     * Get black's lead, black's points less white's points and komi.
+     * @return The margin, negative if white leads.
+     */
+    public double getMargin() {
+        return getPoints(Team.BLACK) - getPoints(Team.WHITE) - komi;
+    }
+
+    /**
+     * Get the team ahead.
+     * @return The leading team, TIE if the margin is 0.
+     */
+    public Team getWinner() {
+        double margin = getMargin();
+        return margin > 0 ? Team.BLACK : margin < 0 ? Team.WHITE : Team.TIE;
+    }
+
+    /**
+     * Get the result the way game records write it, for example B+12 or W+3.5, or 0 for a tie.
+     * @return The result string.
+     */
+    public String getResult() {
+        double margin = getMargin();
+        if (margin == 0) {
+            return "0";
+        }
+        double lead = Math.abs(margin);
+        String points = lead == Math.rint(lead) ? Long.toString((long) lead) : Double.toString(lead);
+        return (margin > 0 ? "B+" : "W+") + points;
+    }
+
+    public ScoringRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Get the points given to white for moving second.
+     * @return The komi.
+     */
+    public double getKomi() {
+        return komi;
+    }
+
+    public int getStones(Team team) {
+        return team == Team.BLACK ? blackStones : whiteStones;
+    }
+
+    /**
+     * Get the points a team has captured, including the stones taken with them.
+     * @param team The team.
+     * @return The captured points.
+     */
+    public int getCaptured(Team team) {
+        return team == Team.BLACK ? blackCaptured : whiteCaptured;
+    }
+
+    /**
+     * Get the open points whose border holds only a team's colour, or for an estimate the open
+     * points its influence controls. Always 0 in a CAPTURES count of the board.
+     * @param team The team.
+     * @return The territory.
+     */
+    public int getTerritory(Team team) {
+        return team == Team.BLACK ? blackTerritory : whiteTerritory;
+    }
+
+    @Override
+    public String toString() {
+        return rule + " black " + getPoints(Team.BLACK) + " white " + getPoints(Team.WHITE) + " komi " + komi
+                + ": " + getResult();
+    }
+}
@@ -0,0 +1,356 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.helpers.SpaceState;
+import me.teamone.gogame.core.helpers.Team;
+
+/**
+ * Tracks the strings on a {@link Position} with a union-find. <br>
+ * A string is a group of stones of the same team joined horizontally, vertically or diagonally.
+ * Every stone points at a parent, the root of its set names the string. Each root keeps a liberty
+ * plane and counter (the open points orthogonally next to the string) and the members form a
+ * circular linked list so a string can be walked without scanning the board. <br>
+ * The tracker listens to the position, so it is kept up to date incrementally as stones are
+ * placed and points are captured, and as either is undone. It starts from the stones already on
+ * the position, so it can be attached part way through a game and detached when no longer needed.
+ */
+public class StringTracker implements PositionListener {
+
+    /**
+     * Parent value for a point that has no stone.
+     */
+    public static final int NONE = -1;
+
+    private final Position position;
+    private final BitBoard bitBoard;
+    private final int width;
+
+    private final int[] parent;
+    /**
+     * Number of stones in the string, valid for roots only.
+     */
+    private final int[] size;
+    /**
+     * Next member of the string, members form a circular list.
+     */
+    private final int[] next;
+    /**
+     * Liberty plane of every root, allocated the first time a point becomes a root.
+     */
+    private final long[][] liberties;
+    /**
+     * Liberty count of every root.
+     */
+    private final int[] libertyCount;
+
+    /**
+     * Roots of strings that lost a stone and must be rebuilt before the next query.
+     */
+    private final int[] dirty;
+    private int dirtyCount = 0;
+    /**
+     * Working buffer for rebuilding strings.
+     */
+    private final int[] members;
+
+    /**
+     * Constructor; tracks the strings of a position, starting from the stones on it, and registers
+     * as its listener.
+     * @param position The position to track.
+     */
+    public StringTracker(Position position) {
+        this.position = position;
+        this.bitBoard = position.getBitBoard();
+        this.width = bitBoard.getWidth();
+        int bits = bitBoard.getBitCount();
+        this.parent = new int[bits];
+        this.size = new int[bits];
+        this.next = new int[bits];
+        this.liberties = new long[bits][];
+        this.libertyCount = new int[bits];
+        this.dirty = new int[bits];
+        this.members = new int[bits];
+        java.util.Arrays.fill(parent, NONE);
+        for (Team team : new Team[]{Team.BLACK, Team.WHITE}) {
+            long[] stones = position.stonePlane(team);
+            for (int i = BitBoard.nextSetBit(stones, 0); i >= 0; i = BitBoard.nextSetBit(stones, i + 1)) {
+                makeSingleton(i);
+                joinNeighbours(i);
+            }
+        }
+        position.addListener(this);
+    }
+
+    /**
+     * Stop listening to the position. The tracker is out of date after the next change.
+     */
+    public void detach() {
+        position.removeListener(this);
+    }
+
+    @Override
+    public void pointChanged(int x, int y) {
+        int index = bitBoard.index(x, y);
+        SpaceState state = position.stateAt(index);
+        if (state == SpaceState.FILLED && parent[index] == NONE) {
+            addStone(index);
+        } else if (state == SpaceState.CAPTURED) {
+            if (parent[index] != NONE) {
+                markDirty(find(index));
+            }
+            // the point can no longer be a liberty of anything next to it
+            removeLibertyFromNeighbours(index);
+        } else if (state == SpaceState.OPEN) {
+            // a stone taken back may have been holding its string together
+            if (parent[index] != NONE) {
+                markDirty(find(index));
+            }
+            addLibertyToNeighbours(index);
+        }
+    }
+
+    /**
+     * Find the string holding the stone on a point.
+     * @param x The x position.
+     * @param y The y position.
+     * @return The root index of the string, NONE if the point has no stone.
+     */
+    public int find(int x, int y) {
+        return findIndex(bitBoard.index(x, y));
+    }
+
+    /**
+     * Find the string holding the stone on a bit index.
+     * @param index The bit index.
+     * @return The root index of the string, NONE if the point has no stone.
+     */
+    public int findIndex(int index) {
+        flush();
+        if (parent[index] == NONE) {
+            return NONE;
+        }
+        return find(index);
+    }
+
+    /**
+     * Get the liberty count of a string.
+     * @param root The root index of the string.
+     * @return The number of open points orthogonally next to the string.
+     */
+    public int getLibertyCount(int root) {
+        flush();
+        return libertyCount[root];
+    }
+
+    /**
+     * Get the liberty plane of a string. Do not modify.
+     * @param root The root index of the string.
+     * @return The liberty plane.
+     */
+    public long[] getLiberties(int root) {
+        flush();
+        return liberties[root];
+    }
+
+    /**
+     * Get the number of stones in a string.
+     * @param root The root index of the string.
+     * @return The string size.
+     */
+    public int getSize(int root) {
+        flush();
+        return size[root];
+    }
+
+    /**
+     * Get the team of a string.
+     * @param root The root index of the string.
+     * @return The team of the string's stones.
+     */
+    public Team getTeam(int root) {
+        return position.stoneAt(root);
+    }
+
+    /**
+     * Get the next member of a string. Starting at the root and following next until the root
+     * comes around again visits every stone once.
+     * @param index A member of the string.
+     * @return The next member.
+     */
+    public int getNext(int index) {
+        flush();
+        return next[index];
+    }
+
+    /**
+     * Write the roots of every string of a team into a buffer.
+     * @param team The team.
+     * @param dst The buffer, must hold at least one entry per stone on the board.
+     * @return The number of roots written.
+     */
+    public int getRoots(Team team, int[] dst) {
+        flush();
+        long[] stones = position.stonePlane(team);
+        int count = 0;
+        for (int i = BitBoard.nextSetBit(stones, 0); i >= 0; i = BitBoard.nextSetBit(stones, i + 1)) {
+            if (parent[i] == i) {
+                dst[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    private int find(int index) {
+        while (parent[index] != index) {
+            // path halving
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    /**
+     * Add a newly placed stone as its own string and join it to its neighbours.
+     */
+    private void addStone(int index) {
+        flush();
+        makeSingleton(index);
+        // the point is no longer a liberty of the strings next to it
+        removeLibertyFromNeighbours(index);
+        joinNeighbours(index);
+    }
+
+    private void makeSingleton(int index) {
+        parent[index] = index;
+        size[index] = 1;
+        next[index] = index;
+        if (liberties[index] == null) {
+            liberties[index] = bitBoard.newPlane();
+        } else {
+            BitBoard.clearAll(liberties[index]);
+        }
+        long[] empty = position.emptyPlane();
+        long[] libs = liberties[index];
+        int count = 0;
+        for (int n = 0; n < 4; n++) {
+            int neighbour = index + orthogonalOffset(n);
+            if (BitBoard.get(empty, neighbour)) {
+                BitBoard.set(libs, neighbour);
+                count++;
+            }
+        }
+        libertyCount[index] = count;
+    }
+
+    private void joinNeighbours(int index) {
+        Team team = position.stoneAt(index);
+        for (int n = 0; n < 8; n++) {
+            int neighbour = index + adjacentOffset(n);
+            if (parent[neighbour] != NONE && position.stoneAt(neighbour) == team) {
+                union(index, neighbour);
+            }
+        }
+    }
+
+    private void removeLibertyFromNeighbours(int index) {
+        for (int n = 0; n < 4; n++) {
+            int neighbour = index + orthogonalOffset(n);
+            if (parent[neighbour] != NONE) {
+                int root = find(neighbour);
+                if (BitBoard.get(liberties[root], index)) {
+                    BitBoard.clear(liberties[root], index);
+                    libertyCount[root]--;
+                }
+            }
+        }
+    }
+
+    private void addLibertyToNeighbours(int index) {
+        for (int n = 0; n < 4; n++) {
+            int neighbour = index + orthogonalOffset(n);
+            if (parent[neighbour] != NONE) {
+                int root = find(neighbour);
+                if (!BitBoard.get(liberties[root], index)) {
+                    BitBoard.set(liberties[root], index);
+                    libertyCount[root]++;
+                }
+            }
+        }
+    }
+
+    private void union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) {
+            return;
+        }
+        if (size[ra] < size[rb]) {
+            int t = ra;
+            ra = rb;
+            rb = t;
+        }
+        parent[rb] = ra;
+        size[ra] += size[rb];
+        // splice the circular member lists
+        int t = next[ra];
+        next[ra] = next[rb];
+        next[rb] = t;
+        BitBoard.or(liberties[ra], liberties[rb], liberties[ra]);
+        libertyCount[ra] = BitBoard.count(liberties[ra]);
+    }
+
+    private void markDirty(int root) {
+        for (int i = 0; i < dirtyCount; i++) {
+            if (dirty[i] == root) {
+                return;
+            }
+        }
+        dirty[dirtyCount++] = root;
+    }
+
+    /**
+     * Rebuild strings that lost stones to a capture or an undo. The surviving stones may have split apart,
+     * so they are reset and joined again.
+     */
+    private void flush() {
+        while (dirtyCount > 0) {
+            int root = dirty[--dirtyCount];
+            int count = 0;
+            int m = root;
+            do {
+                members[count++] = m;
+                m = next[m];
+            } while (m != root);
+            for (int i = 0; i < count; i++) {
+                parent[members[i]] = NONE;
+            }
+            for (int i = 0; i < count; i++) {
+                if (position.stoneAt(members[i]) != null) {
+                    makeSingleton(members[i]);
+                    joinNeighbours(members[i]);
+                }
+            }
+        }
+    }
+
+    private int orthogonalOffset(int n) {
+        switch (n) {
+            case 0: return -1;
+            case 1: return 1;
+            case 2: return -width;
+            default: return width;
+        }
+    }
+
+    private int adjacentOffset(int n) {
+        switch (n) {
+            case 0: return -1;
+            case 1: return 1;
+            case 2: return -width;
+            case 3: return width;
+            case 4: return -width - 1;
+            case 5: return -width + 1;
+            case 6: return width - 1;
+            default: return width + 1;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.helpers.Team;
+
+import java.util.Arrays;
+
+/**
+ * Every position of a played game, for stepping through it in any order. <br>
+ * The game is replayed once when the timeline is made. Every {@code interval} plies the stone and
+ * capture planes are kept as a snapshot, and each ply keeps the points it changed with what they
+ * became. Seeking copies the nearest snapshot at or before the ply and applies at most
+ * {@code interval - 1} plies of changes to it, with no rules run, so any ply is reached in about
+ * the same time however long the game. The result is written into a display position point by
+ * point, only where it differs, so listeners redraw just the points that changed.
+ */
+public class Timeline {
+
+    /**
+     * Default plies between snapshots.
+     */
+    public static final int DEFAULT_INTERVAL = 16;
+
+    // what a point holds in a change, stored in the low 3 bits
+    private static final int OPEN = 0;
+    private static final int BLACK = 1;
+    private static final int WHITE = 2;
+    private static final int BLACK_CAPTURE = 3;
+    private static final int WHITE_CAPTURE = 4;
+    private static final int PLANES = 4;
+
+    private final BitBoard bitBoard;
+    private final int words;
+    private final int interval;
+    private final int length;
+    private final int[] moves;
+    /**
+     * snapshots[k], the black, white, black capture and white capture planes after ply k * interval,
+     * back to back.
+     */
+    private final long[][] snapshots;
+    /**
+     * The changes of ply p, (index << 3) | what the point holds, are changes[changeStart[p - 1]] up to
+     * changes[changeStart[p]].
+     */
+    private int[] changes = new int[256];
+    private final int[] changeStart;
+
+    // the planes being built by a seek
+    private final long[] target;
+
+    /**
+     * Constructor; replays a game from its setup stones to its last move. The game is not changed.
+     * @param game The game to replay.
+     * @param interval The plies between snapshots, at least 1.
+     */
+    public Timeline(GameState game, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Snapshot interval must be at least 1, was " + interval);
+        }
+        this.bitBoard = game.getPosition().getBitBoard();
+        this.words = bitBoard.newPlane().length;
+        this.interval = interval;
+        this.length = game.getDepth();
+        this.moves = new int[length];
+        for (int ply = 0; ply < length; ply++) {
+            moves[ply] = game.getMove(ply);
+        }
+        this.snapshots = new long[length / interval + 1][];
+        this.changeStart = new int[length + 1];
+        this.target = new long[PLANES * words];
+
+        GameState replay = new GameState(bitBoard.getSize(), game.getKoRule());
+        for (Team team : new Team[]{Team.BLACK, Team.WHITE}) {
+            long[] setup = game.getSetupStones(team);
+            int[] indexes = new int[BitBoard.count(setup)];
+            int count = 0;
+            for (int i = BitBoard.nextSetBit(setup, 0); i >= 0; i = BitBoard.nextSetBit(setup, i + 1)) {
+                indexes[count++] = i;
+            }
+            if (count > 0) {
+                replay.placeStones(team, indexes);
+            }
+        }
+        long[] before = planesOf(replay.getPosition());
+        snapshots[0] = before;
+        int changeCount = 0;
+        for (int ply = 0; ply < length; ply++) {
+            if (moves[ply] == GameState.PASS) {
+                replay.pass();
+            } else {
+                replay.makeMove(moves[ply]);
+            }
+            long[] after = planesOf(replay.getPosition());
+            for (int w = 0; w < words; w++) {
+                long changed = 0;
+                for (int plane = 0; plane < PLANES; plane++) {
+                    changed |= before[plane * words + w] ^ after[plane * words + w];
+                }
+                for (; changed != 0; changed &= changed - 1) {
+                    int index = w * Long.SIZE + Long.numberOfTrailingZeros(changed);
+                    if (changeCount == changes.length) {
+                        changes = Arrays.copyOf(changes, changeCount * 2);
+                    }
+                    changes[changeCount++] = index << 3 | pointIn(after, index);
+                }
+            }
+            changeStart[ply + 1] = changeCount;
+            if ((ply + 1) % interval == 0) {
+                snapshots[(ply + 1) / interval] = after;
+            }
+            before = after;
+        }
+    }
+
+    private long[] planesOf(Position position) {
+        long[] planes = new long[PLANES * words];
+        System.arraycopy(position.stonePlane(Team.BLACK), 0, planes, 0, words);
+        System.arraycopy(position.stonePlane(Team.WHITE), 0, planes, words, words);
+        System.arraycopy(position.capturePlane(Team.BLACK), 0, planes, 2 * words, words);
+        System.arraycopy(position.capturePlane(Team.WHITE), 0, planes, 3 * words, words);
+        return planes;
+    }
+
+    private int pointIn(long[] planes, int index) {
+        for (int plane = 0; plane < PLANES; plane++) {
+            if ((planes[plane * words + (index >>> 6)] & 1L << index) != 0) {
+                return plane + 1;
+            }
+        }
+        return OPEN;
+    }
+
+    /**
+     * Show the game as it stood after a number of plies.
+     * @param ply The plies played, 0 for the starting position up to {@link #getLength()}.
+     * @param display The position to write into, of the game's size. Only differing points change.
+     */
+    public void seek(int ply, Position display) {
+        if (ply < 0 || ply > length) {
+            throw new IndexOutOfBoundsException("Ply " + ply + " is not in a game of " + length);
+        }
+        System.arraycopy(snapshots[ply / interval], 0, target, 0, target.length);
+        for (int p = ply / interval * interval + 1; p <= ply; p++) {
+            for (int c = changeStart[p - 1]; c < changeStart[p]; c++) {
+                int index = changes[c] >>> 3;
+                int word = index >>> 6;
+                long bit = 1L << index;
+                for (int plane = 0; plane < PLANES; plane++) {
+                    target[plane * words + word] &= ~bit;
+                }
+                int holds = changes[c] & 7;
+                if (holds != OPEN) {
+                    target[(holds - 1) * words + word] |= bit;
+                }
+            }
+        }
+
+        long[] black = display.stonePlane(Team.BLACK);
+        long[] white = display.stonePlane(Team.WHITE);
+        long[] blackCaptures = display.capturePlane(Team.BLACK);
+        long[] whiteCaptures = display.capturePlane(Team.WHITE);
+        for (int w = 0; w < words; w++) {
+            long changed = (black[w] ^ target[w]) | (white[w] ^ target[words + w])
+                    | (blackCaptures[w] ^ target[2 * words + w]) | (whiteCaptures[w] ^ target[3 * words + w]);
+            for (; changed != 0; changed &= changed - 1) {
+                int index = w * Long.SIZE + Long.numberOfTrailingZeros(changed);
+                setPoint(display, index, pointIn(target, index));
+            }
+        }
+    }
+
+    private static void setPoint(Position display, int index, int holds) {
+        if (display.captureOwnerAt(index) != null) {
+            display.uncapturePoint(index, null);
+        } else if (display.stoneAt(index) != null) {
+            display.removeStone(index);
+        }
+        switch (holds) {
+            case BLACK:
+                display.putStone(index, Team.BLACK);
+                break;
+            case WHITE:
+                display.putStone(index, Team.WHITE);
+                break;
+            case BLACK_CAPTURE:
+                display.captureAt(index, Team.BLACK);
+                break;
+            case WHITE_CAPTURE:
+                display.captureAt(index, Team.WHITE);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Get the number of plies in the game, passes included.
+     * @return The length.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Get the move of a ply.
+     * @param ply The ply, from 0.
+     * @return The bit index of the move, or GameState.PASS.
+     */
+    public int getMove(int ply) {
+        return moves[ply];
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+}
@@ -0,0 +1,82 @@
+package me.teamone.gogame.core.model;
+
+import me.teamone.gogame.core.helpers.Team;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for hashing positions. <br>
+ * Every point has a random 64 bit key for each thing it can hold (a black or white stone, or a
+ * capture by black or white), plus one key for white to move. A position's hash is the XOR of the
+ * keys of everything on it, so a move updates the hash in O(1) by XORing the keys that changed.
+ * Keys are fixed per board size, so the same position always hashes the same in every game and JVM.
+ */
+public final class Zobrist {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final Zobrist[] TABLES = new Zobrist[BitBoard.MAX_SIZE + 1];
+
+    private final long[] blackStones;
+    private final long[] whiteStones;
+    private final long[] blackCaptures;
+    private final long[] whiteCaptures;
+    private final long whiteToMove;
+
+    private Zobrist(BitBoard bitBoard) {
+        int bits = bitBoard.getBitCount();
+        SplittableRandom random = new SplittableRandom(SEED + bitBoard.getSize());
+        this.blackStones = new long[bits];
+        this.whiteStones = new long[bits];
+        this.blackCaptures = new long[bits];
+        this.whiteCaptures = new long[bits];
+        for (int i = 0; i < bits; i++) {
+            blackStones[i] = random.nextLong();
+            whiteStones[i] = random.nextLong();
+            blackCaptures[i] = random.nextLong();
+            whiteCaptures[i] = random.nextLong();
+        }
+        this.whiteToMove = random.nextLong();
+    }
+
+    /**
+     * Get the shared key table for a board size.
+     * @param bitBoard The board geometry.
+     * @return The key table.
+     */
+    public static synchronized Zobrist forBoard(BitBoard bitBoard) {
+        Zobrist table = TABLES[bitBoard.getSize()];
+        if (table == null) {
+            table = new Zobrist(bitBoard);
+            TABLES[bitBoard.getSize()] = table;
+        }
+        return table;
+    }
+
+    /**
+     * Get the key of a stone.
+     * @param team The team of the stone.
+     * @param index The bit index of the point.
+     * @return The key.
+     */
+    public long stoneKey(Team team, int index) {
+        return team == Team.BLACK ? blackStones[index] : whiteStones[index];
+    }
+
+    /**
+     * Get the key of a captured point.
+     * @param team The team that captured the point.
+     * @param index The bit index of the point.
+     * @return The key.
+     */
+    public long captureKey(Team team, int index) {
+        return team == Team.BLACK ? blackCaptures[index] : whiteCaptures[index];
+    }
+
+    /**
+     * Get the key XORed in while white is to move.
+     * @return The side to move key.
+     */
+    public long getWhiteToMoveKey() {
+        return whiteToMove;
+    }
+}
@@ -0,0 +1,294 @@
+package me.teamone.gogame.core.sgf;
+
+import me.teamone.gogame.core.Game;
+import me.teamone.gogame.core.exceptions.*;
+import me.teamone.gogame.core.gameobjects.Player;
+import me.teamone.gogame.core.helpers.KoRule;
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.BitBoard;
+import me.teamone.gogame.core.model.GameState;
+
+import java.util.Arrays;
+
+/**
+ * The record of one game, as read from or written to a game file: board size, handicap, scoring
+ * rule and komi, player names, setup stones, moves and result. <br>
+ * Points are board coordinates, x across and y down from the top left, as the rest of the game uses.
+ * Moves and setup stones are packed into int arrays, (team << 16) | (x << 8) | y with a pass held as
+ * x and y of 255, so a record of a long game stays a few kilobytes.
+ */
+public class GameRecord {
+
+    private static final int PASS_POINT = 0xFFFF;
+
+    private int size = 19;
+    private int handicap = 0;
+    /**
+     * Rule the result was counted by, this game's own when the file does not say.
+     */
+    private ScoringRule rule = ScoringRule.CAPTURES;
+    private double komi = 0;
+    private String blackName = "";
+    private String whiteName = "";
+    /**
+     * Result in the game file's form, B+3, W+1, 0 for a tie, empty if unknown.
+     */
+    private String result = "";
+
+    private int[] moves = new int[64];
+    private int moveCount = 0;
+    private int[] setup = new int[16];
+    private int setupCount = 0;
+
+    /**
+     * Make a record of a game, its moves so far and its result if it is over.
+     * @param game The game.
+     * @return The record.
+     */
+    public static GameRecord of(Game game) {
+        GameState state = game.getState();
+        BitBoard bitBoard = state.getPosition().getBitBoard();
+        GameRecord record = new GameRecord();
+        record.setSize(bitBoard.getSize());
+        record.setHandicap(game.getHandicapCount());
+        record.setRule(game.getScoringRule());
+        record.setKomi(game.getKomi());
+        record.setBlackName(game.getBlackPlayer().getName());
+        record.setWhiteName(game.getWhitePlayer().getName());
+        for (Team team : new Team[]{Team.BLACK, Team.WHITE}) {
+            long[] stones = state.getSetupStones(team);
+            for (int i = BitBoard.nextSetBit(stones, 0); i >= 0; i = BitBoard.nextSetBit(stones, i + 1)) {
+                record.addSetupStone(team, bitBoard.x(i), bitBoard.y(i));
+            }
+        }
+        for (int ply = 0; ply < state.getDepth(); ply++) {
+            Team team = ply % 2 == 0 ? Team.BLACK : Team.WHITE;
+            int move = state.getMove(ply);
+            if (move == GameState.PASS) {
+                record.addPass(team);
+            } else {
+                record.addMove(team, bitBoard.x(move), bitBoard.y(move));
+            }
+        }
+        if (game.isGameOver()) {
+            record.setResult(game.getScore().getResult());
+        }
+        return record;
+    }
+
+    /**
+     * Replay the record as a new game. Handicap stones are placed as the record's setup stones, so the
+     * new game's own handicap count is 0. A move by the side not to move is played after a pass.
+     * @return The game, after the last move of the record.
+     */
+    public Game toGame() throws StonePlacementException, SpaceFilledException, isCapturedException, NoStoneException, mismatchedTeamsException, noStringMatchException, StringCreationException, KoException {
+        Game game = new Game(new Player(blackName.isEmpty() ? "Black" : blackName, Team.BLACK),
+                new Player(whiteName.isEmpty() ? "White" : whiteName, Team.WHITE), 0, size, KoRule.POSITIONAL, rule, komi);
+        GameState state = game.getState();
+        BitBoard bitBoard = state.getPosition().getBitBoard();
+        placeSetup(state);
+        for (int i = 0; i < moveCount; i++) {
+            if (getMoveTeam(i) != game.getCurrentPlayer().getTeam()) {
+                game.pass();
+            }
+            game.playMove(isPass(i) ? GameState.PASS : bitBoard.index(getMoveX(i), getMoveY(i)));
+        }
+        return game;
+    }
+
+    /**
+     * Play the record onto a new game state, stopping at the first move this game's rules do not
+     * allow, for replaying records of games played under other rules.
+     * @param state A state with no moves made, of the record's size.
+     * @return The number of the record's moves played.
+     */
+    public int playOnto(GameState state) {
+        placeSetup(state);
+        for (int i = 0; i < moveCount; i++) {
+            if (!playMove(state, i)) {
+                return i;
+            }
+        }
+        return moveCount;
+    }
+
+    /**
+     * Place the record's setup stones on a state with nothing on it.
+     * @param state A state of the record's size.
+     */
+    public void placeSetup(GameState state) {
+        BitBoard bitBoard = state.getPosition().getBitBoard();
+        if (bitBoard.getSize() != size) {
+            throw new IllegalArgumentException("Record is " + size + "x" + size + ", state is " + bitBoard.getSize());
+        }
+        for (Team team : new Team[]{Team.BLACK, Team.WHITE}) {
+            int[] indexes = new int[setupCount];
+            int count = 0;
+            for (int i = 0; i < setupCount; i++) {
+                if (getSetupTeam(i) == team) {
+                    indexes[count++] = bitBoard.index(getSetupX(i), getSetupY(i));
+                }
+            }
+            if (count > 0) {
+                state.placeStones(team, Arrays.copyOf(indexes, count));
+            }
+        }
+    }
+
+    /**
+     * Play one of the record's moves, passing first when the other team is to move.
+     * @param state The state the earlier moves were played on.
+     * @param i The move.
+     * @return Whether the move was allowed, the state is unchanged if not.
+     */
+    public boolean playMove(GameState state, int i) {
+        if (isPass(i)) {
+            if (getMoveTeam(i) != state.getToMove()) {
+                state.pass();
+            }
+            state.pass();
+            return true;
+        }
+        BitBoard bitBoard = state.getPosition().getBitBoard();
+        int index = bitBoard.index(getMoveX(i), getMoveY(i));
+        if (getMoveTeam(i) == state.getToMove()) {
+            if (!state.getMoves().isLegal(state.getToMove(), index)) {
+                return false;
+            }
+        } else {
+            state.pass();
+            if (!state.getMoves().isLegal(state.getToMove(), index)) {
+                state.unmakeMove();
+                return false;
+            }
+        }
+        state.makeMove(index);
+        return true;
+    }
+
+    /**
+     * Make a new game state for the record's board.
+     * @return An empty state, positional ko.
+     */
+    public GameState newState() {
+        return new GameState(size, KoRule.POSITIONAL);
+    }
+
+    public void addMove(Team team, int x, int y) {
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moveCount * 2);
+        }
+        moves[moveCount++] = pack(team, (x << 8) | y);
+    }
+
+    public void addPass(Team team) {
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moveCount * 2);
+        }
+        moves[moveCount++] = pack(team, PASS_POINT);
+    }
+
+    public void addSetupStone(Team team, int x, int y) {
+        if (setupCount == setup.length) {
+            setup = Arrays.copyOf(setup, setupCount * 2);
+        }
+        setup[setupCount++] = pack(team, (x << 8) | y);
+    }
+
+    private static int pack(Team team, int point) {
+        return (team == Team.BLACK ? 0 : 1) << 16 | point;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public Team getMoveTeam(int i) {
+        return (moves[i] >>> 16) == 0 ? Team.BLACK : Team.WHITE;
+    }
+
+    public boolean isPass(int i) {
+        return (moves[i] & PASS_POINT) == PASS_POINT;
+    }
+
+    public int getMoveX(int i) {
+        return (moves[i] >>> 8) & 0xFF;
+    }
+
+    public int getMoveY(int i) {
+        return moves[i] & 0xFF;
+    }
+
+    public int getSetupCount() {
+        return setupCount;
+    }
+
+    public Team getSetupTeam(int i) {
+        return (setup[i] >>> 16) == 0 ? Team.BLACK : Team.WHITE;
+    }
+
+    public int getSetupX(int i) {
+        return (setup[i] >>> 8) & 0xFF;
+    }
+
+    public int getSetupY(int i) {
+        return setup[i] & 0xFF;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public int getHandicap() {
+        return handicap;
+    }
+
+    public void setHandicap(int handicap) {
+        this.handicap = handicap;
+    }
+
+    public ScoringRule getRule() {
+        return rule;
+    }
+
+    public void setRule(ScoringRule rule) {
+        this.rule = rule;
+    }
+
+    public double getKomi() {
+        return komi;
+    }
+
+    public void setKomi(double komi) {
+        this.komi = komi;
+    }
+
+    public String getBlackName() {
+        return blackName;
+    }
+
+    public void setBlackName(String blackName) {
+        this.blackName = blackName;
+    }
+
+    public String getWhiteName() {
+        return whiteName;
+    }
+
+    public void setWhiteName(String whiteName) {
+        this.whiteName = whiteName;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+}
@@ -0,0 +1,372 @@
+package me.teamone.gogame.core.sgf;
+
+import me.teamone.gogame.core.exceptions.SgfFormatException;
+import me.teamone.gogame.core.helpers.ScoringRule;
+import me.teamone.gogame.core.helpers.Team;
+import me.teamone.gogame.core.model.BitBoard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streaming reader for SGF game collections. <br>
+ * Games are read one at a time from a character stream through a small buffer, so a collection of
+ * any size can be read in constant memory. Only the main line of each game is kept, the first
+ * variation at every branch; other variations and unknown properties, comments included, are
+ * skipped without being stored. <br>
+ * Read properties: SZ, HA, KM, RU (rule sets this game does not count by are left as captures),
+ * PB, PW, RE, AB, AW (point lists and rectangles), B and W (empty or tt on boards up to 19 is a pass).
+ */
+public class SgfReader implements Closeable {
+
+    private static final int EOF = -1;
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position = 0;
+    private int limit = 0;
+    private int line = 1;
+    /**
+     * Scratch for the property value being read.
+     */
+    private final StringBuilder value = new StringBuilder();
+
+    /**
+     * Constructor.
+     * @param in The stream to read, closed with this reader.
+     */
+    public SgfReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Read the next game of the collection.
+     * @return The game, null at the end of the stream.
+     * @throws SgfFormatException If the game breaks the format.
+     * @throws IOException If the stream cannot be read.
+     */
+    public GameRecord next() throws IOException {
+        // anything before a game tree is ignored, files often start with a header or blank lines
+        int c;
+        do {
+            c = read();
+        } while (c != '(' && c != EOF);
+        if (c == EOF) {
+            return null;
+        }
+        GameRecord record = new GameRecord();
+        // the main line takes the first subtree at each level, once a subtree closes only its
+        // siblings and the closing brackets of the levels above are left, all skipped
+        int depth = 1;
+        boolean returning = false;
+        while (depth > 0) {
+            c = readSkippingSpace();
+            if (c == ';' && !returning) {
+                readNode(record);
+            } else if (c == '(') {
+                if (returning) {
+                    skipTree();
+                } else {
+                    depth++;
+                }
+            } else if (c == ')') {
+                depth--;
+                returning = true;
+            } else if (c == EOF) {
+                throw error("Game tree not closed at end of file");
+            } else {
+                throw error("Unexpected '" + (char) c + "' in game tree");
+            }
+        }
+        return record;
+    }
+
+    private void readNode(GameRecord record) throws IOException {
+        int firstMove = record.getMoveCount();
+        int firstSetup = record.getSetupCount();
+        while (true) {
+            int c = peekSkippingSpace();
+            if (c < 'A' || c > 'Z') {
+                // SZ may come after the points in the same node, so they are checked once it is read
+                checkPoints(record, firstMove, firstSetup);
+                return;
+            }
+            String id = readIdent();
+            if (peekSkippingSpace() != '[') {
+                throw error("Property " + id + " has no value");
+            }
+            while (peekSkippingSpace() == '[') {
+                read();
+                readProperty(record, id);
+            }
+        }
+    }
+
+    /**
+     * Read a property identifier, upper case letters. Lower case letters, allowed in old files, are dropped.
+     */
+    private String readIdent() throws IOException {
+        StringBuilder id = new StringBuilder(2);
+        int c = peek();
+        while ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+            read();
+            if (c <= 'Z') {
+                id.append((char) c);
+            }
+            c = peek();
+        }
+        return id.toString();
+    }
+
+    /**
+     * Read one value of a property, the opening bracket already taken, and apply it to the record.
+     */
+    private void readProperty(GameRecord record, String id) throws IOException {
+        switch (id) {
+            case "SZ":
+                int size = parseNumber(readValue(), id);
+                if (size < BitBoard.MIN_SIZE || size > BitBoard.MAX_SIZE) {
+                    throw error("Board size " + size + " is not " + BitBoard.MIN_SIZE + "-" + BitBoard.MAX_SIZE);
+                }
+                record.setSize(size);
+                break;
+            case "HA":
+                record.setHandicap(parseNumber(readValue(), id));
+                break;
+            case "KM":
+                record.setKomi(parseKomi(readValue()));
+                break;
+            case "RU":
+                ScoringRule rule = ScoringRule.fromSgfName(readValue());
+                if (rule != null) {
+                    record.setRule(rule);
+                }
+                break;
+            case "PB":
+                record.setBlackName(readValue());
+                break;
+            case "PW":
+                record.setWhiteName(readValue());
+                break;
+            case "RE":
+                record.setResult(readValue());
+                break;
+            case "B":
+            case "W":
+                readMove(record, id.equals("B") ? Team.BLACK : Team.WHITE, readValue());
+                break;
+            case "AB":
+            case "AW":
+                readSetup(record, id.equals("AB") ? Team.BLACK : Team.WHITE, readValue());
+                break;
+            default:
+                skipValue();
+        }
+    }
+
+    private void readMove(GameRecord record, Team team, String point) throws SgfFormatException {
+        if (point.isEmpty() || (point.equals("tt") && record.getSize() <= 19)) {
+            record.addPass(team);
+        } else {
+            record.addMove(team, coordinate(point, 0), coordinate(point, 1));
+        }
+    }
+
+    private void readSetup(GameRecord record, Team team, String points) throws SgfFormatException {
+        if (points.length() == 5 && points.charAt(2) == ':') {
+            // a rectangle of points, corner to corner
+            int x0 = coordinate(points, 0);
+            int y0 = coordinate(points, 1);
+            int x1 = coordinate(points, 3);
+            int y1 = coordinate(points, 4);
+            for (int x = Math.min(x0, x1); x <= Math.max(x0, x1); x++) {
+                for (int y = Math.min(y0, y1); y <= Math.max(y0, y1); y++) {
+                    record.addSetupStone(team, x, y);
+                }
+            }
+        } else {
+            record.addSetupStone(team, coordinate(points, 0), coordinate(points, 1));
+        }
+    }
+
+    /**
+     * Decode one letter of a point, a-z then A-Z. Whether it is on the board is checked at the end of the node.
+     */
+    private int coordinate(String point, int at) throws SgfFormatException {
+        if (point.length() <= at) {
+            throw error("Bad point [" + point + "]");
+        }
+        char c = point.charAt(at);
+        int n = c >= 'a' && c <= 'z' ? c - 'a' : c >= 'A' && c <= 'Z' ? c - 'A' + 26 : -1;
+        if (n < 0) {
+            throw error("Bad point [" + point + "]");
+        }
+        return n;
+    }
+
+    /**
+     * Check the moves and setup stones added since the given counts are on the record's board.
+     */
+    private void checkPoints(GameRecord record, int firstMove, int firstSetup) throws SgfFormatException {
+        int size = record.getSize();
+        for (int i = firstMove; i < record.getMoveCount(); i++) {
+            if (!record.isPass(i) && (record.getMoveX(i) >= size || record.getMoveY(i) >= size)) {
+                throw offBoard(record.getMoveX(i), record.getMoveY(i), size);
+            }
+        }
+        for (int i = firstSetup; i < record.getSetupCount(); i++) {
+            if (record.getSetupX(i) >= size || record.getSetupY(i) >= size) {
+                throw offBoard(record.getSetupX(i), record.getSetupY(i), size);
+            }
+        }
+    }
+
+    private SgfFormatException offBoard(int x, int y, int size) {
+        return error("Point (" + x + ", " + y + ") is off a " + size + "x" + size + " board");
+    }
+
+    private int parseNumber(String text, String id) throws SgfFormatException {
+        // SZ may be given as columns:rows, only square boards are played
+        int colon = text.indexOf(':');
+        String number = (colon >= 0 ? text.substring(0, colon) : text).trim();
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            throw error("Property " + id + " is not a number: [" + text + "]");
+        }
+    }
+
+    private double parseKomi(String text) throws SgfFormatException {
+        double komi;
+        try {
+            komi = Double.parseDouble(text.trim());
+        } catch (NumberFormatException e) {
+            komi = Double.NaN;
+        }
+        if (Double.isNaN(komi) || Double.isInfinite(komi)) {
+            throw error("Property KM is not a number: [" + text + "]");
+        }
+        return komi;
+    }
+
+    /**
+     * Read a value up to its closing bracket, undoing escapes.
+     */
+    private String readValue() throws IOException {
+        value.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == ']') {
+                return value.toString();
+            } else if (c == '\\') {
+                c = read();
+                // an escaped line break is a soft break and disappears
+                if (c == '\n' || c == '\r') {
+                    continue;
+                }
+            }
+            if (c == EOF) {
+                throw error("Property value not closed at end of file");
+            }
+            value.append((char) c);
+        }
+    }
+
+    /**
+     * Skip a value up to its closing bracket without keeping it.
+     */
+    private void skipValue() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == ']') {
+                return;
+            } else if (c == '\\') {
+                c = read();
+            }
+            if (c == EOF) {
+                throw error("Property value not closed at end of file");
+            }
+        }
+    }
+
+    /**
+     * Skip a whole game tree, its opening bracket already taken.
+     */
+    private void skipTree() throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            int c = read();
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '[') {
+                skipValue();
+            } else if (c == EOF) {
+                throw error("Variation not closed at end of file");
+            }
+        }
+    }
+
+    private int readSkippingSpace() throws IOException {
+        int c = read();
+        while (c != EOF && Character.isWhitespace(c)) {
+            c = read();
+        }
+        return c;
+    }
+
+    private int peekSkippingSpace() throws IOException {
+        int c = peek();
+        while (c != EOF && Character.isWhitespace(c)) {
+            read();
+            c = peek();
+        }
+        return c;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        char c = buffer[position++];
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int count = in.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = count;
+        return true;
+    }
+
+    private SgfFormatException error(String message) {
+        return new SgfFormatException(message + " (line " + line + ")");
+    }
+
+    /**
+     * @return The line being read, counted from 1.
+     */
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
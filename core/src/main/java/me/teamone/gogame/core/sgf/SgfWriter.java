@@ -0,0 +1,129 @@
+package me.teamone.gogame.core.sgf;
+
+import me.teamone.gogame.core.helpers.Team;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Streaming writer for SGF game collections. <br>
+ * Each call to {@link #write(GameRecord)} adds one game tree to the stream, so a collection is
+ * written one game at a time and never held in memory. Passes are written as empty moves, as
+ * FF[4] has them.
+ */
+public class SgfWriter implements Closeable, Flushable {
+
+    /**
+     * Moves written per line, to keep files readable in a text editor.
+     */
+    private static final int MOVES_PER_LINE = 10;
+
+    private final Writer out;
+
+    /**
+     * Constructor.
+     * @param out The stream to write, closed with this writer.
+     */
+    public SgfWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Write one game.
+     * @param record The game.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(GameRecord record) throws IOException {
+        out.write("(;FF[4]GM[1]CA[UTF-8]AP[gogame]");
+        writeProperty("SZ", Integer.toString(record.getSize()));
+        if (record.getHandicap() > 0) {
+            writeProperty("HA", Integer.toString(record.getHandicap()));
+        }
+        writeProperty("RU", record.getRule().getSgfName());
+        if (record.getKomi() != 0) {
+            writeProperty("KM", komi(record.getKomi()));
+        }
+        if (!record.getBlackName().isEmpty()) {
+            writeProperty("PB", record.getBlackName());
+        }
+        if (!record.getWhiteName().isEmpty()) {
+            writeProperty("PW", record.getWhiteName());
+        }
+        if (!record.getResult().isEmpty()) {
+            writeProperty("RE", record.getResult());
+        }
+        writeSetup(record, Team.BLACK, "AB");
+        writeSetup(record, Team.WHITE, "AW");
+        for (int i = 0; i < record.getMoveCount(); i++) {
+            if (i % MOVES_PER_LINE == 0) {
+                out.write('\n');
+            }
+            out.write(record.getMoveTeam(i) == Team.BLACK ? ";B[" : ";W[");
+            if (!record.isPass(i)) {
+                writePoint(record.getMoveX(i), record.getMoveY(i));
+            }
+            out.write(']');
+        }
+        out.write(")\n");
+    }
+
+    private void writeSetup(GameRecord record, Team team, String id) throws IOException {
+        boolean first = true;
+        for (int i = 0; i < record.getSetupCount(); i++) {
+            if (record.getSetupTeam(i) != team) {
+                continue;
+            }
+            if (first) {
+                out.write(id);
+                first = false;
+            }
+            out.write('[');
+            writePoint(record.getSetupX(i), record.getSetupY(i));
+            out.write(']');
+        }
+    }
+
+    private void writePoint(int x, int y) throws IOException {
+        out.write(letter(x));
+        out.write(letter(y));
+    }
+
+    private static char letter(int n) {
+        return (char) (n < 26 ? 'a' + n : 'A' + n - 26);
+    }
+
+    /**
+     * Write komi as a plain number, 6.5 or 7 rather than 7.0.
+     */
+    private static String komi(double komi) {
+        return komi == Math.rint(komi) ? Long.toString((long) komi) : Double.toString(komi);
+    }
+
+    /**
+     * Write a text property, escaping the characters that would end or escape its value.
+     */
+    private void writeProperty(String id, String text) throws IOException {
+        out.write(id);
+        out.write('[');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ']' || c == '\\') {
+                out.write('\\');
+            }
+            out.write(c);
+        }
+        out.write(']');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,12 @@
+module me.teamone.gogame.core {
+    requires transitive javafx.base;
+    exports me.teamone.gogame.core;
+    exports me.teamone.gogame.core.archive;
+    exports me.teamone.gogame.core.events;
+    exports me.teamone.gogame.core.ai;
+    exports me.teamone.gogame.core.exceptions;
+    exports me.teamone.gogame.core.gameobjects;
+    exports me.teamone.gogame.core.helpers;
+    exports me.teamone.gogame.core.model;
+    exports me.teamone.gogame.core.sgf;
+}